@@ -0,0 +1,217 @@
+package de.treestack.throwing;
+
+import org.jspecify.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A conjunction or disjunction of two-argument predicates that might throw an exception, which reorders its clauses
+ * at runtime so that cheap, decisive clauses are evaluated first.
+ * This is the two-arity specialization of {@link AdaptivePredicate}.
+ *
+ * @param <T1> the type of the first input to the predicate
+ * @param <T2> the type of the second input to the predicate
+ * @param <E>  the type of the exception that may be thrown
+ * @see AdaptivePredicate
+ * @since 1.3
+ */
+public final class AdaptiveBiPredicate<T1, T2, E extends Exception> implements BiPredicate<T1, T2, E> {
+
+    /** The clauses, in the order they were added. */
+    private final BiPredicate<? super T1, ? super T2, ? extends E>[] clauses;
+
+    /** Whether all clauses must pass, otherwise any clause must pass. */
+    private final boolean all;
+
+    /** What to do if a clause throws an exception. */
+    private final AdaptivePredicate.OnFailure onFailure;
+
+    /** The samples and the current evaluation order. */
+    private final ClauseStatistics statistics;
+
+    @SuppressWarnings("unchecked")
+    private AdaptiveBiPredicate(final Builder<T1, T2, E> builder) {
+        this.clauses = builder.predicates.toArray(new BiPredicate[0]);
+        this.all = builder.conjunction;
+        this.onFailure = builder.failurePolicy;
+        this.statistics = new ClauseStatistics(clauses.length, all, builder.rate, builder.interval);
+    }
+
+    /**
+     * Creates a builder for a predicate that passes if all of its clauses pass.
+     * An empty conjunction always passes.
+     *
+     * @param <T1> the type of the first input to the predicate
+     * @param <T2> the type of the second input to the predicate
+     * @param <E>  the type of the exception that may be thrown
+     * @return a new builder
+     * @since 1.3
+     */
+    public static <T1, T2, E extends Exception> Builder<T1, T2, E> allOf() {
+        return new Builder<>(true);
+    }
+
+    /**
+     * Creates a builder for a predicate that passes if any of its clauses passes.
+     * An empty disjunction never passes.
+     *
+     * @param <T1> the type of the first input to the predicate
+     * @param <T2> the type of the second input to the predicate
+     * @param <E>  the type of the exception that may be thrown
+     * @return a new builder
+     * @since 1.3
+     */
+    public static <T1, T2, E extends Exception> Builder<T1, T2, E> anyOf() {
+        return new Builder<>(false);
+    }
+
+    @Override
+    public boolean test(@Nullable final T1 t1, @Nullable final T2 t2) throws E {
+        final boolean sample = statistics.sample();
+        for (final int index : statistics.order()) {
+            final boolean result;
+            if (sample) {
+                final long start = System.nanoTime();
+                result = evaluate(clauses[index], t1, t2);
+                statistics.record(index, result, System.nanoTime() - start);
+            } else {
+                result = evaluate(clauses[index], t1, t2);
+            }
+            if (result != all) {
+                if (sample) {
+                    statistics.sampled();
+                }
+                return result;
+            }
+        }
+        if (sample) {
+            statistics.sampled();
+        }
+        return all;
+    }
+
+    /**
+     * Returns the current evaluation order as indices of the clauses in the order they were added.
+     *
+     * @return the current evaluation order
+     * @since 1.3
+     */
+    public List<Integer> order() {
+        final List<Integer> order = new ArrayList<>();
+        for (final int index : statistics.order()) {
+            order.add(index);
+        }
+        return order;
+    }
+
+    private boolean evaluate(final BiPredicate<? super T1, ? super T2, ? extends E> clause,
+            @Nullable final T1 t1, @Nullable final T2 t2) throws E {
+        if (onFailure == AdaptivePredicate.OnFailure.PROPAGATE) {
+            return clause.test(t1, t2);
+        }
+        try {
+            return clause.test(t1, t2);
+        } catch (final RuntimeException e) {
+            throw e;
+        } catch (final Exception e) {
+            return onFailure == AdaptivePredicate.OnFailure.PASS;
+        }
+    }
+
+    /**
+     * A builder for {@link AdaptiveBiPredicate}s.
+     *
+     * @param <T1> the type of the first input to the predicate
+     * @param <T2> the type of the second input to the predicate
+     * @param <E>  the type of the exception that may be thrown
+     * @since 1.3
+     */
+    public static final class Builder<T1, T2, E extends Exception> {
+
+        /** Whether the predicate is a conjunction. */
+        private final boolean conjunction;
+
+        /** The clauses. */
+        private final List<BiPredicate<? super T1, ? super T2, ? extends E>> predicates = new ArrayList<>();
+
+        /** The failure policy. */
+        private AdaptivePredicate.OnFailure failurePolicy = AdaptivePredicate.OnFailure.PROPAGATE;
+
+        /** The sample rate. */
+        private int rate = AdaptivePredicate.DEFAULT_SAMPLE_RATE;
+
+        /** The reorder interval. */
+        private long interval = AdaptivePredicate.DEFAULT_REORDER_INTERVAL;
+
+        private Builder(final boolean and) {
+            this.conjunction = and;
+        }
+
+        /**
+         * Adds a clause.
+         *
+         * @param predicate the clause
+         * @return this builder
+         * @since 1.3
+         */
+        public Builder<T1, T2, E> add(final BiPredicate<? super T1, ? super T2, ? extends E> predicate) {
+            predicates.add(Objects.requireNonNull(predicate));
+            return this;
+        }
+
+        /**
+         * Sets what to do if a clause throws a checked exception.
+         * Defaults to {@link AdaptivePredicate.OnFailure#PROPAGATE}.
+         *
+         * @param policy the failure policy
+         * @return this builder
+         * @since 1.3
+         */
+        public Builder<T1, T2, E> onFailure(final AdaptivePredicate.OnFailure policy) {
+            this.failurePolicy = Objects.requireNonNull(policy);
+            return this;
+        }
+
+        /**
+         * Sets how often evaluations are sampled: one in {@code n} evaluations is timed. Defaults to 16.
+         *
+         * @param n the sample rate, {@code 1} to sample every evaluation
+         * @return this builder
+         * @since 1.3
+         */
+        public Builder<T1, T2, E> sampleRate(final int n) {
+            if (n < 1) {
+                throw new IllegalArgumentException("sampleRate must be positive: " + n);
+            }
+            this.rate = n;
+            return this;
+        }
+
+        /**
+         * Sets the number of sampled evaluations between two reorderings. Defaults to 1024.
+         *
+         * @param samples the reorder interval
+         * @return this builder
+         * @since 1.3
+         */
+        public Builder<T1, T2, E> reorderInterval(final long samples) {
+            if (samples < 1) {
+                throw new IllegalArgumentException("reorderInterval must be positive: " + samples);
+            }
+            this.interval = samples;
+            return this;
+        }
+
+        /**
+         * Creates the predicate.
+         *
+         * @return a new predicate
+         * @since 1.3
+         */
+        public AdaptiveBiPredicate<T1, T2, E> build() {
+            return new AdaptiveBiPredicate<>(this);
+        }
+    }
+}
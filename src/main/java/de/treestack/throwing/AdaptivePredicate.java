@@ -0,0 +1,247 @@
+package de.treestack.throwing;
+
+import org.jspecify.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A conjunction or disjunction of predicates that might throw an exception, which reorders its clauses at runtime
+ * so that cheap, decisive clauses are evaluated first.
+ *
+ * <p>A fraction of the evaluations is sampled to measure the pass rate and the evaluation time of each clause.
+ * After a number of samples, the clauses are reordered by the expected cost of reaching a decision. Since clauses
+ * may be evaluated in any order, they should be free of side effects and must not depend on each other, e.g. a
+ * null check must be part of the clause that needs it.
+ *
+ * <pre>{@code
+ * Predicate<Request, IOException> filter = AdaptivePredicate.<Request, IOException>allOf()
+ *         .add(request -> request.getSize() < maxSize)
+ *         .add(request -> pattern.matcher(request.getPath()).matches())
+ *         .add(blocklist::isAllowed)
+ *         .build();
+ * }</pre>
+ *
+ * @param <T> the type of the input to the predicate
+ * @param <E> the type of the exception that may be thrown
+ * @see AdaptiveBiPredicate
+ * @since 1.3
+ */
+public final class AdaptivePredicate<T, E extends Exception> implements Predicate<T, E> {
+
+    /** One in this many evaluations is sampled by default. */
+    static final int DEFAULT_SAMPLE_RATE = 16;
+
+    /** The default number of sampled evaluations between two reorderings. */
+    static final long DEFAULT_REORDER_INTERVAL = 1024;
+
+    /** The clauses, in the order they were added. */
+    private final Predicate<? super T, ? extends E>[] clauses;
+
+    /** Whether all clauses must pass, otherwise any clause must pass. */
+    private final boolean all;
+
+    /** What to do if a clause throws an exception. */
+    private final OnFailure onFailure;
+
+    /** The samples and the current evaluation order. */
+    private final ClauseStatistics statistics;
+
+    @SuppressWarnings("unchecked")
+    private AdaptivePredicate(final Builder<T, E> builder) {
+        this.clauses = builder.predicates.toArray(new Predicate[0]);
+        this.all = builder.conjunction;
+        this.onFailure = builder.failurePolicy;
+        this.statistics = new ClauseStatistics(clauses.length, all, builder.rate, builder.interval);
+    }
+
+    /**
+     * Creates a builder for a predicate that passes if all of its clauses pass.
+     * An empty conjunction always passes.
+     *
+     * @param <T> the type of the input to the predicate
+     * @param <E> the type of the exception that may be thrown
+     * @return a new builder
+     * @since 1.3
+     */
+    public static <T, E extends Exception> Builder<T, E> allOf() {
+        return new Builder<>(true);
+    }
+
+    /**
+     * Creates a builder for a predicate that passes if any of its clauses passes.
+     * An empty disjunction never passes.
+     *
+     * @param <T> the type of the input to the predicate
+     * @param <E> the type of the exception that may be thrown
+     * @return a new builder
+     * @since 1.3
+     */
+    public static <T, E extends Exception> Builder<T, E> anyOf() {
+        return new Builder<>(false);
+    }
+
+    @Override
+    public boolean test(@Nullable final T t) throws E {
+        final boolean sample = statistics.sample();
+        for (final int index : statistics.order()) {
+            final boolean result;
+            if (sample) {
+                final long start = System.nanoTime();
+                result = evaluate(clauses[index], t);
+                statistics.record(index, result, System.nanoTime() - start);
+            } else {
+                result = evaluate(clauses[index], t);
+            }
+            if (result != all) {
+                if (sample) {
+                    statistics.sampled();
+                }
+                return result;
+            }
+        }
+        if (sample) {
+            statistics.sampled();
+        }
+        return all;
+    }
+
+    /**
+     * Returns the current evaluation order as indices of the clauses in the order they were added.
+     *
+     * @return the current evaluation order
+     * @since 1.3
+     */
+    public List<Integer> order() {
+        final List<Integer> order = new ArrayList<>();
+        for (final int index : statistics.order()) {
+            order.add(index);
+        }
+        return order;
+    }
+
+    private boolean evaluate(final Predicate<? super T, ? extends E> clause, @Nullable final T t) throws E {
+        if (onFailure == OnFailure.PROPAGATE) {
+            return clause.test(t);
+        }
+        try {
+            return clause.test(t);
+        } catch (final RuntimeException e) {
+            throw e;
+        } catch (final Exception e) {
+            return onFailure == OnFailure.PASS;
+        }
+    }
+
+    /**
+     * What an adaptive predicate does if one of its clauses throws a checked exception. RuntimeExceptions, which
+     * usually indicate a bug in the clause, are always propagated.
+     *
+     * @since 1.3
+     */
+    public enum OnFailure {
+
+        /** The exception is propagated to the caller. This is the default. */
+        PROPAGATE,
+
+        /** The clause is treated as if it had not passed. */
+        FAIL,
+
+        /** The clause is treated as if it had passed. */
+        PASS
+    }
+
+    /**
+     * A builder for {@link AdaptivePredicate}s.
+     *
+     * @param <T> the type of the input to the predicate
+     * @param <E> the type of the exception that may be thrown
+     * @since 1.3
+     */
+    public static final class Builder<T, E extends Exception> {
+
+        /** Whether the predicate is a conjunction. */
+        private final boolean conjunction;
+
+        /** The clauses. */
+        private final List<Predicate<? super T, ? extends E>> predicates = new ArrayList<>();
+
+        /** The failure policy. */
+        private OnFailure failurePolicy = OnFailure.PROPAGATE;
+
+        /** The sample rate. */
+        private int rate = DEFAULT_SAMPLE_RATE;
+
+        /** The reorder interval. */
+        private long interval = DEFAULT_REORDER_INTERVAL;
+
+        private Builder(final boolean and) {
+            this.conjunction = and;
+        }
+
+        /**
+         * Adds a clause.
+         *
+         * @param predicate the clause
+         * @return this builder
+         * @since 1.3
+         */
+        public Builder<T, E> add(final Predicate<? super T, ? extends E> predicate) {
+            predicates.add(Objects.requireNonNull(predicate));
+            return this;
+        }
+
+        /**
+         * Sets what to do if a clause throws a checked exception. Defaults to {@link OnFailure#PROPAGATE}.
+         *
+         * @param policy the failure policy
+         * @return this builder
+         * @since 1.3
+         */
+        public Builder<T, E> onFailure(final OnFailure policy) {
+            this.failurePolicy = Objects.requireNonNull(policy);
+            return this;
+        }
+
+        /**
+         * Sets how often evaluations are sampled: one in {@code n} evaluations is timed. Defaults to 16.
+         *
+         * @param n the sample rate, {@code 1} to sample every evaluation
+         * @return this builder
+         * @since 1.3
+         */
+        public Builder<T, E> sampleRate(final int n) {
+            if (n < 1) {
+                throw new IllegalArgumentException("sampleRate must be positive: " + n);
+            }
+            this.rate = n;
+            return this;
+        }
+
+        /**
+         * Sets the number of sampled evaluations between two reorderings. Defaults to 1024.
+         *
+         * @param samples the reorder interval
+         * @return this builder
+         * @since 1.3
+         */
+        public Builder<T, E> reorderInterval(final long samples) {
+            if (samples < 1) {
+                throw new IllegalArgumentException("reorderInterval must be positive: " + samples);
+            }
+            this.interval = samples;
+            return this;
+        }
+
+        /**
+         * Creates the predicate.
+         *
+         * @return a new predicate
+         * @since 1.3
+         */
+        public AdaptivePredicate<T, E> build() {
+            return new AdaptivePredicate<>(this);
+        }
+    }
+}
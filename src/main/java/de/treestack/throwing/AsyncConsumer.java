@@ -0,0 +1,413 @@
+package de.treestack.throwing;
+
+import org.jspecify.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A non-blocking {@link java.util.function.Consumer} that hands elements over to a consumer that may throw an
+ * Exception, running on a background thread.
+ *
+ * <p>Elements are published into a bounded, lock-free ring buffer. A single drainer thread takes them out in batches
+ * and passes them to the delegate, so the delegate is never called concurrently, except by the
+ * {@link Overflow#CALLER_RUNS} policy. Exceptions thrown by the delegate are passed to an error handler, errors
+ * to the uncaught exception handler of the background thread; neither stops the background thread.
+ *
+ * <pre>{@code
+ * AsyncConsumer<AuditEvent> audit = AsyncConsumer.ofBatch(auditWriter::writeAll)
+ *         .onOverflow(AsyncConsumer.Overflow.DROP)
+ *         .errorHandler(e -> log.warn("audit write failed", e))
+ *         .build();
+ *
+ * audit.accept(event);
+ * }</pre>
+ *
+ * @param <T> the type of the elements
+ * @since 1.3
+ */
+public final class AsyncConsumer<T> implements java.util.function.Consumer<T>, AutoCloseable {
+
+    /** How long the drainer parks if there is nothing to do. */
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+    /** How long a blocked producer or flushing thread parks before checking again. */
+    private static final long WAIT_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+    /** The published elements. */
+    private final RingBuffer<T> buffer;
+
+    /** Receives the batches. */
+    private final Consumer<? super List<T>, ? extends Exception> delegate;
+
+    /** Receives the exceptions thrown by the delegate. */
+    private final java.util.function.Consumer<? super Exception> errorHandler;
+
+    /** What to do if the buffer is full. */
+    private final Overflow overflow;
+
+    /** The maximum number of elements per batch. */
+    private final int maxBatchSize;
+
+    /** The number of elements dropped because the buffer was full. */
+    private final LongAdder dropped = new LongAdder();
+
+    /** The background thread. */
+    private final Thread drainer;
+
+    /** The number of elements taken out of the buffer and passed to the delegate. Only written by the drainer. */
+    private volatile long delivered;
+
+    /** Whether the drainer is parked or about to park. */
+    private volatile boolean idle;
+
+    /** Whether {@link #close()} has been called. */
+    private volatile boolean closed;
+
+    private AsyncConsumer(final Builder<T> builder) {
+        final Consumer<? super T, ? extends Exception> element = builder.elementDelegate;
+        this.buffer = new RingBuffer<>(builder.bufferCapacity);
+        this.errorHandler = builder.handler;
+        this.delegate = element == null
+                ? Objects.requireNonNull(builder.batchDelegate)
+                : batch -> deliverEach(element, batch);
+        this.overflow = builder.overflowPolicy;
+        this.maxBatchSize = builder.batchSize;
+        this.drainer = new Thread(this::drain, builder.name);
+        this.drainer.setDaemon(true);
+    }
+
+    /**
+     * Creates a builder for an asynchronous consumer that passes elements to the given consumer one by one.
+     * If the consumer throws an exception, the error handler is called and the remaining elements of the batch are
+     * still passed to the consumer.
+     *
+     * @param consumer the consumer to call on the background thread
+     * @param <T>      the type of the elements
+     * @return a new builder
+     * @since 1.3
+     */
+    public static <T> Builder<T> of(final Consumer<? super T, ? extends Exception> consumer) {
+        Objects.requireNonNull(consumer);
+        return new Builder<>(null, consumer);
+    }
+
+    /**
+     * Creates a builder for an asynchronous consumer that passes elements to the given consumer in batches.
+     * The list passed to the consumer must not be retained after it returns.
+     *
+     * @param consumer the consumer to call on the background thread
+     * @param <T>      the type of the elements
+     * @return a new builder
+     * @since 1.3
+     */
+    public static <T> Builder<T> ofBatch(final Consumer<? super List<T>, ? extends Exception> consumer) {
+        return new Builder<>(Objects.requireNonNull(consumer), null);
+    }
+
+    /**
+     * Publishes an element. If the buffer is full, the element is handled according to the {@link Overflow} policy.
+     *
+     * @param t the element
+     * @throws IllegalStateException if this consumer has been closed
+     * @since 1.3
+     */
+    @Override
+    public void accept(final T t) {
+        if (closed) {
+            throw new IllegalStateException("consumer has been closed");
+        }
+        if (buffer.offer(t)) {
+            if (idle) {
+                LockSupport.unpark(drainer);
+            }
+            return;
+        }
+        switch (overflow) {
+            case DROP:
+                dropped.increment();
+                break;
+            case CALLER_RUNS:
+                deliver(Collections.singletonList(t));
+                break;
+            case BLOCK:
+            default:
+                while (!buffer.offer(t)) {
+                    if (closed) {
+                        throw new IllegalStateException("consumer has been closed");
+                    } else if (!drainer.isAlive()) {
+                        throw new IllegalStateException("background thread has stopped");
+                    }
+                    LockSupport.unpark(drainer);
+                    LockSupport.parkNanos(this, WAIT_PARK_NANOS);
+                }
+                break;
+        }
+    }
+
+    /**
+     * Waits until all elements published before this call have been passed to the delegate.
+     *
+     * @throws InterruptedException  if the current thread is interrupted while waiting
+     * @throws IllegalStateException if the background thread has stopped before delivering all elements, e.g.
+     *                               because they were published concurrently with {@link #close()}
+     * @since 1.3
+     */
+    public void flush() throws InterruptedException {
+        final long target = buffer.published();
+        while (delivered < target) {
+            if (!drainer.isAlive() && delivered < target) {
+                throw new IllegalStateException("background thread has stopped");
+            }
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+            LockSupport.unpark(drainer);
+            LockSupport.parkNanos(this, WAIT_PARK_NANOS);
+        }
+    }
+
+    /**
+     * Stops accepting elements, passes all published elements to the delegate and stops the background thread.
+     * Elements published concurrently with this call may be discarded.
+     *
+     * @since 1.3
+     */
+    @Override
+    public void close() {
+        closed = true;
+        LockSupport.unpark(drainer);
+        boolean interrupted = false;
+        while (drainer.isAlive()) {
+            try {
+                drainer.join();
+            } catch (final InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Returns the number of elements dropped because the buffer was full.
+     *
+     * @return the number of dropped elements
+     * @since 1.3
+     */
+    public long dropped() {
+        return dropped.sum();
+    }
+
+    private AsyncConsumer<T> start() {
+        drainer.start();
+        return this;
+    }
+
+    private void drain() {
+        final List<T> batch = new ArrayList<>(maxBatchSize);
+        while (true) {
+            final int count = buffer.drainTo(batch, maxBatchSize);
+            if (count > 0) {
+                deliver(batch);
+                batch.clear();
+                delivered += count;
+            } else if (closed) {
+                if (buffer.isEmpty()) {
+                    return;
+                }
+            } else {
+                idle = true;
+                if (buffer.isEmpty() && !closed) {
+                    LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+                }
+                idle = false;
+            }
+        }
+    }
+
+    private void deliver(final List<T> batch) {
+        try {
+            delegate.accept(batch);
+        } catch (final Exception | Error e) {
+            handle(e);
+        }
+    }
+
+    private void deliverEach(final Consumer<? super T, ? extends Exception> element, final List<T> batch) {
+        for (final T t : batch) {
+            try {
+                element.accept(t);
+            } catch (final Exception | Error e) {
+                handle(e);
+            }
+        }
+    }
+
+    /**
+     * Passes an exception to the error handler and an error to the uncaught exception handler. Whatever these
+     * handlers throw is reported to the uncaught exception handler or dropped, so that the drainer keeps running.
+     */
+    private void handle(final Throwable e) {
+        try {
+            if (e instanceof Exception) {
+                errorHandler.accept((Exception) e);
+            } else {
+                reportUncaught(e);
+            }
+        } catch (final Throwable handlerFailure) {
+            try {
+                reportUncaught(handlerFailure);
+            } catch (final Throwable ignored) {
+                // nothing left to report to
+            }
+        }
+    }
+
+    private static void reportUncaught(final Throwable e) {
+        final Thread thread = Thread.currentThread();
+        thread.getUncaughtExceptionHandler().uncaughtException(thread, e);
+    }
+
+    /**
+     * What an asynchronous consumer does if an element is published while the buffer is full.
+     *
+     * @since 1.3
+     */
+    public enum Overflow {
+
+        /** The publishing thread waits until there is room. This is the default. */
+        BLOCK,
+
+        /** The element is discarded and counted, see {@link AsyncConsumer#dropped()}. */
+        DROP,
+
+        /** The element is passed to the delegate on the publishing thread, concurrently with the drainer. */
+        CALLER_RUNS
+    }
+
+    /**
+     * A builder for {@link AsyncConsumer}s.
+     *
+     * @param <T> the type of the elements
+     * @since 1.3
+     */
+    public static final class Builder<T> {
+
+        /** The default capacity of the buffer. */
+        private static final int DEFAULT_CAPACITY = 1024;
+
+        /** The default maximum number of elements per batch. */
+        private static final int DEFAULT_BATCH_SIZE = 256;
+
+        /** The batch consumer, if created with {@link #ofBatch(Consumer)}. */
+        private final @Nullable Consumer<? super List<T>, ? extends Exception> batchDelegate;
+
+        /** The element consumer, if created with {@link #of(Consumer)}. */
+        private final @Nullable Consumer<? super T, ? extends Exception> elementDelegate;
+
+        /** The error handler. */
+        private java.util.function.Consumer<? super Exception> handler = AsyncConsumer::reportUncaught;
+
+        /** The overflow policy. */
+        private Overflow overflowPolicy = Overflow.BLOCK;
+
+        /** The capacity of the buffer. */
+        private int bufferCapacity = DEFAULT_CAPACITY;
+
+        /** The maximum number of elements per batch. */
+        private int batchSize = DEFAULT_BATCH_SIZE;
+
+        /** The name of the background thread. */
+        private String name = "async-consumer";
+
+        private Builder(@Nullable final Consumer<? super List<T>, ? extends Exception> batch,
+                @Nullable final Consumer<? super T, ? extends Exception> element) {
+            this.batchDelegate = batch;
+            this.elementDelegate = element;
+        }
+
+        /**
+         * Sets the capacity of the buffer, which must be a power of two of at least 2. Defaults to 1024.
+         *
+         * @param capacity the capacity of the buffer
+         * @return this builder
+         * @since 1.3
+         */
+        public Builder<T> capacity(final int capacity) {
+            if (capacity < 2 || Integer.bitCount(capacity) != 1) {
+                throw new IllegalArgumentException("capacity must be a power of two of at least 2: " + capacity);
+            }
+            this.bufferCapacity = capacity;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of elements passed to the delegate at once. Defaults to 256.
+         *
+         * @param size the maximum batch size
+         * @return this builder
+         * @since 1.3
+         */
+        public Builder<T> maxBatchSize(final int size) {
+            if (size < 1) {
+                throw new IllegalArgumentException("maxBatchSize must be positive: " + size);
+            }
+            this.batchSize = size;
+            return this;
+        }
+
+        /**
+         * Sets what to do if the buffer is full. Defaults to {@link Overflow#BLOCK}.
+         *
+         * @param policy the overflow policy
+         * @return this builder
+         * @since 1.3
+         */
+        public Builder<T> onOverflow(final Overflow policy) {
+            this.overflowPolicy = Objects.requireNonNull(policy);
+            return this;
+        }
+
+        /**
+         * Sets the handler for exceptions thrown by the delegate. Defaults to the uncaught exception handler of the
+         * background thread. Exceptions thrown by the handler itself are passed to the uncaught exception handler.
+         *
+         * @param errors the error handler
+         * @return this builder
+         * @since 1.3
+         */
+        public Builder<T> errorHandler(final java.util.function.Consumer<? super Exception> errors) {
+            this.handler = Objects.requireNonNull(errors);
+            return this;
+        }
+
+        /**
+         * Sets the name of the background thread.
+         *
+         * @param threadName the name of the background thread
+         * @return this builder
+         * @since 1.3
+         */
+        public Builder<T> threadName(final String threadName) {
+            this.name = Objects.requireNonNull(threadName);
+            return this;
+        }
+
+        /**
+         * Creates the consumer and starts its background thread.
+         *
+         * @return a new, running consumer
+         * @since 1.3
+         */
+        public AsyncConsumer<T> build() {
+            return new AsyncConsumer<>(this).start();
+        }
+    }
+}
@@ -2,7 +2,10 @@ package de.treestack.throwing;
 
 import org.jspecify.annotations.Nullable;
 
+import java.lang.reflect.Method;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.Executor;
 
 /**
  * Represents a function that accepts two arguments, produces a result
@@ -105,4 +108,120 @@ public interface BiFunction<T1, T2, R, E extends Exception> {
     default java.util.function.BiFunction<T1, T2, R> unchecked() {
         return unchecked(this);
     }
+
+    /**
+     * Reduces the elements of a list in parallel in the common fork/join pool. The list is split recursively, each
+     * part is folded with the accumulator starting from the identity value, and the partial results are combined in
+     * encounter order with the combiner.
+     *
+     * <p>If the accumulator or the combiner throws an exception, the remaining subtasks are skipped and the
+     * exception is rethrown unchanged.
+     *
+     * @param list        the elements to reduce
+     * @param identity    the identity value of the combiner
+     * @param accumulator an associative function that folds an element into a partial result
+     * @param combiner    an associative function that combines two partial results, compatible with the accumulator
+     * @param <T>         the type of the elements
+     * @param <U>         the type of the result
+     * @param <E>         the type of the exception thrown by the accumulator or the combiner
+     * @return the result of the reduction, or the identity value if the list is empty
+     * @throws E if the accumulator or the combiner throws an exception
+     * @see BinaryOperator#parallelReduce(List, Object, BinaryOperator)
+     * @since 1.3
+     */
+    static <T, U, E extends Exception> U parallelReduce(final List<? extends T> list, final U identity,
+            final BiFunction<U, ? super T, U, E> accumulator, final BinaryOperator<U, E> combiner) throws E {
+        return ReduceTask.reduce(list, identity, accumulator, combiner);
+    }
+
+    /**
+     * Creates a function that invokes the given method: either an instance method with one parameter, which is
+     * invoked on the first argument with the second argument, or a static method with two parameters.
+     *
+     * <p>Exceptions thrown by the method are propagated unchanged.
+     *
+     * @param method the method to invoke
+     * @param <T1>   the type of the first input to the function
+     * @param <T2>   the type of the second input to the function
+     * @param <R>    the type of the result of the function
+     * @return a function that invokes the method
+     * @throws IllegalArgumentException if the method has the wrong number of parameters or is not accessible
+     * @see Function#ofMethod(Method)
+     * @since 1.3
+     */
+    static <T1, T2, R> BiFunction<T1, T2, R, Exception> ofMethod(final Method method) {
+        return MethodAdapters.biFunction(method);
+    }
+
+    /**
+     * Runs two suppliers concurrently and combines their results with the given function.
+     *
+     * <p>Each supplier runs in a new virtual thread, or, on Java versions without virtual threads, in a shared pool
+     * of daemon threads. As soon as one supplier throws an exception, the other one is cancelled by interrupting it,
+     * and the exception is rethrown unchanged once the other one has returned. No supplier keeps running after this
+     * method has returned; a supplier that ignores interrupts therefore delays the exception until it returns.
+     * The combiner is applied on the calling thread once both suppliers have returned.
+     *
+     * <pre>{@code
+     * Page page = BiFunction.zipConcurrent(
+     *         () -> users.load(id),
+     *         () -> orders.load(id),
+     *         Page::new);
+     * }</pre>
+     *
+     * @param first    the first supplier
+     * @param second   the second supplier
+     * @param combiner the function combining both results
+     * @param <A>      the type of the result of the first supplier
+     * @param <B>      the type of the result of the second supplier
+     * @param <R>      the type of the combined result
+     * @param <E1>     the type of the exception thrown by the first supplier
+     * @param <E2>     the type of the exception thrown by the second supplier
+     * @param <E3>     the type of the exception thrown by the combiner
+     * @return the combined result
+     * @throws E1                   if the first supplier throws an exception
+     * @throws E2                   if the second supplier throws an exception
+     * @throws E3                   if the combiner throws an exception
+     * @throws InterruptedException if the current thread is interrupted while waiting; both suppliers are cancelled
+     *                              and have returned
+     * @since 1.3
+     */
+    static <A, B, R, E1 extends Exception, E2 extends Exception, E3 extends Exception> R zipConcurrent(
+            final Supplier<? extends A, ? extends E1> first, final Supplier<? extends B, ? extends E2> second,
+            final BiFunction<? super A, ? super B, ? extends R, ? extends E3> combiner)
+        throws E1, E2, E3, InterruptedException {
+        return ConcurrentZip.zip(Threads.forkExecutor(), first, second, combiner);
+    }
+
+    /**
+     * Runs two suppliers concurrently with the given executor and combines their results with the given function.
+     * The executor must run each task in its own thread, otherwise the first supplier may not be cancelled if the
+     * second one fails. A supplier that the executor has not started yet when the other one fails is never started.
+     *
+     * @param executor the executor running the suppliers
+     * @param first    the first supplier
+     * @param second   the second supplier
+     * @param combiner the function combining both results
+     * @param <A>      the type of the result of the first supplier
+     * @param <B>      the type of the result of the second supplier
+     * @param <R>      the type of the combined result
+     * @param <E1>     the type of the exception thrown by the first supplier
+     * @param <E2>     the type of the exception thrown by the second supplier
+     * @param <E3>     the type of the exception thrown by the combiner
+     * @return the combined result
+     * @throws E1                   if the first supplier throws an exception
+     * @throws E2                   if the second supplier throws an exception
+     * @throws E3                   if the combiner throws an exception
+     * @throws InterruptedException if the current thread is interrupted while waiting; both suppliers are cancelled
+     *                              and have returned
+     * @see #zipConcurrent(Supplier, Supplier, BiFunction)
+     * @since 1.3
+     */
+    static <A, B, R, E1 extends Exception, E2 extends Exception, E3 extends Exception> R zipConcurrent(
+            final Executor executor, final Supplier<? extends A, ? extends E1> first,
+            final Supplier<? extends B, ? extends E2> second,
+            final BiFunction<? super A, ? super B, ? extends R, ? extends E3> combiner)
+        throws E1, E2, E3, InterruptedException {
+        return ConcurrentZip.zip(executor, first, second, combiner);
+    }
 }
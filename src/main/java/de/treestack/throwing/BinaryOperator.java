@@ -1,5 +1,8 @@
 package de.treestack.throwing;
 
+import java.util.Arrays;
+import java.util.List;
+
 /**
  * Represents an operation upon two operands of the same type, producing a result
  * of the same type as the operands and (optionally) throwing an Exception.
@@ -17,4 +20,43 @@ package de.treestack.throwing;
  */
 public interface BinaryOperator<T, E extends Exception> extends BiFunction<T, T, T, E> {
 
+    /**
+     * Reduces the elements of a list in parallel in the common fork/join pool, using the given operator.
+     * The list is split recursively, and the partial results are combined in encounter order, so the operator must
+     * be associative, but need not be commutative.
+     *
+     * <p>If the operator throws an exception, the remaining subtasks are skipped and the exception is rethrown
+     * unchanged.
+     *
+     * @param list     the elements to reduce
+     * @param identity the identity value of the operator
+     * @param operator an associative operator that combines two values
+     * @param <T>      the type of the elements
+     * @param <E>      the type of the exception thrown by the operator
+     * @return the result of the reduction, or the identity value if the list is empty
+     * @throws E if the operator throws an exception
+     * @since 1.3
+     */
+    static <T, E extends Exception> T parallelReduce(
+            final List<? extends T> list, final T identity, final BinaryOperator<T, E> operator) throws E {
+        return ReduceTask.reduce(list, identity, operator, operator);
+    }
+
+    /**
+     * Reduces the elements of an array in parallel in the common fork/join pool, using the given operator.
+     *
+     * @param array    the elements to reduce
+     * @param identity the identity value of the operator
+     * @param operator an associative operator that combines two values
+     * @param <T>      the type of the elements
+     * @param <E>      the type of the exception thrown by the operator
+     * @return the result of the reduction, or the identity value if the array is empty
+     * @throws E if the operator throws an exception
+     * @see #parallelReduce(List, Object, BinaryOperator)
+     * @since 1.3
+     */
+    static <T, E extends Exception> T parallelReduce(
+            final T[] array, final T identity, final BinaryOperator<T, E> operator) throws E {
+        return parallelReduce(Arrays.asList(array), identity, operator);
+    }
 }
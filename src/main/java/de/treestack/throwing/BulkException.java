@@ -0,0 +1,51 @@
+package de.treestack.throwing;
+
+/**
+ * Thrown by the bulk operations, such as {@link Function#applyAll(Object[], Object[])}, if the function throws a
+ * checked exception for one of the elements. The original exception is the cause, the index of the element is
+ * {@link #getIndex()}. Elements before that index have been processed, elements after it have not. RuntimeExceptions
+ * thrown by the function, as well as exceptions thrown by the input or output container itself, are not wrapped.
+ *
+ * @since 1.3
+ */
+public class BulkException extends Exception {
+
+    /** The serial version UID. */
+    private static final long serialVersionUID = 1L;
+
+    /** The index of the element for which the function threw the exception. */
+    private final int index;
+
+    /**
+     * Creates a new exception.
+     *
+     * @param failedIndex the index of the element for which the function threw the exception
+     * @param cause       the exception thrown by the function
+     * @since 1.3
+     */
+    public BulkException(final int failedIndex, final Exception cause) {
+        super("failed at index " + failedIndex + ": " + cause.getMessage(), cause);
+        this.index = failedIndex;
+    }
+
+    /**
+     * Returns the index of the element for which the function threw the exception.
+     *
+     * @return the index of the failing element
+     * @since 1.3
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * Returns the exception thrown by the function.
+     *
+     * @return the original exception
+     * @since 1.3
+     */
+    @Override
+    public synchronized Exception getCause() {
+        return (Exception) super.getCause();
+    }
+}
@@ -0,0 +1,74 @@
+package de.treestack.throwing;
+
+import java.nio.ByteBuffer;
+
+/**
+ * A {@link CharSequence} view over a range of a {@link ByteBuffer} that maps every byte to the char with the same
+ * value, i.e. decodes ISO-8859-1 without copying. Instances are mutable and reused, see {@link #reset(int, int)}.
+ */
+final class ByteCharSequence implements CharSequence {
+
+    /** Mask to read a byte as an unsigned value. */
+    private static final int UNSIGNED_MASK = 0xFF;
+
+    /** The underlying buffer. */
+    private final ByteBuffer buffer;
+
+    /** The index of the first byte of this sequence in the buffer. */
+    private int offset;
+
+    /** The number of bytes in this sequence. */
+    private int length;
+
+    ByteCharSequence(final ByteBuffer source) {
+        this.buffer = source;
+    }
+
+    ByteCharSequence(final ByteBuffer source, final int start, final int end) {
+        this.buffer = source;
+        reset(start, end);
+    }
+
+    /**
+     * Points this view to a different range of the buffer.
+     *
+     * @param start the index of the first byte, inclusive
+     * @param end   the index of the last byte, exclusive
+     * @return this view
+     */
+    ByteCharSequence reset(final int start, final int end) {
+        this.offset = start;
+        this.length = end - start;
+        return this;
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public char charAt(final int index) {
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException("index " + index + ", length " + length);
+        }
+        return (char) (buffer.get(offset + index) & UNSIGNED_MASK);
+    }
+
+    @Override
+    public CharSequence subSequence(final int start, final int end) {
+        if (start < 0 || end > length || start > end) {
+            throw new IndexOutOfBoundsException("start " + start + ", end " + end + ", length " + length);
+        }
+        return new ByteCharSequence(buffer, offset + start, offset + end);
+    }
+
+    @Override
+    public String toString() {
+        final char[] chars = new char[length];
+        for (int i = 0; i < length; i++) {
+            chars[i] = (char) (buffer.get(offset + i) & UNSIGNED_MASK);
+        }
+        return new String(chars);
+    }
+}
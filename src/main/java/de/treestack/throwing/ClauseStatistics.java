@@ -0,0 +1,142 @@
+package de.treestack.throwing;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Pass rate and cost samples of the clauses of an adaptive predicate, and the evaluation order derived from them.
+ *
+ * <p>Clauses are ordered by the expected cost of reaching a decision: for a conjunction, cheap clauses that are
+ * likely to fail come first, for a disjunction, cheap clauses that are likely to pass. Estimates are smoothed across
+ * reorderings, so the order follows changes in the data without flapping on a single window.
+ */
+final class ClauseStatistics {
+
+    /** The weight of the previous estimate when a new window of samples is merged. */
+    private static final double SMOOTHING = 0.5;
+
+    /** Whether the predicate is a conjunction, otherwise it is a disjunction. */
+    private final boolean conjunction;
+
+    /** One in this many evaluations is sampled. */
+    private final int sampleRate;
+
+    /** The number of sampled evaluations between two reorderings. */
+    private final long reorderInterval;
+
+    /** The number of sampled evaluations of each clause in the current window. */
+    private final LongAdder[] evaluations;
+
+    /** The number of sampled evaluations of each clause in the current window that passed. */
+    private final LongAdder[] passes;
+
+    /** The time spent in sampled evaluations of each clause in the current window. */
+    private final LongAdder[] nanos;
+
+    /** The smoothed pass rate of each clause, or {@code NaN} if not yet known. */
+    private final double[] passRate;
+
+    /** The smoothed cost of each clause in nanoseconds, or {@code NaN} if not yet known. */
+    private final double[] cost;
+
+    /** The number of sampled evaluations of the whole predicate. */
+    private final AtomicLong samples = new AtomicLong();
+
+    /** Guards the smoothed estimates, so only one thread reorders at a time. */
+    private final AtomicBoolean reordering = new AtomicBoolean();
+
+    /** The current evaluation order, as indices into the clauses. */
+    private volatile int[] order;
+
+    ClauseStatistics(final int clauses, final boolean and, final int rate, final long interval) {
+        this.conjunction = and;
+        this.sampleRate = rate;
+        this.reorderInterval = interval;
+        this.evaluations = new LongAdder[clauses];
+        this.passes = new LongAdder[clauses];
+        this.nanos = new LongAdder[clauses];
+        this.passRate = new double[clauses];
+        this.cost = new double[clauses];
+        this.order = new int[clauses];
+        for (int i = 0; i < clauses; i++) {
+            evaluations[i] = new LongAdder();
+            passes[i] = new LongAdder();
+            nanos[i] = new LongAdder();
+            passRate[i] = Double.NaN;
+            cost[i] = Double.NaN;
+            order[i] = i;
+        }
+    }
+
+    /**
+     * Returns the current evaluation order. The returned array must not be modified.
+     */
+    int[] order() {
+        return order;
+    }
+
+    /**
+     * Decides whether the current evaluation should be sampled.
+     */
+    boolean sample() {
+        return sampleRate == 1 || ThreadLocalRandom.current().nextInt(sampleRate) == 0;
+    }
+
+    /**
+     * Records a sampled evaluation of a single clause.
+     */
+    void record(final int clause, final boolean passed, final long elapsedNanos) {
+        evaluations[clause].increment();
+        if (passed) {
+            passes[clause].increment();
+        }
+        nanos[clause].add(elapsedNanos);
+    }
+
+    /**
+     * Records the end of a sampled evaluation of the whole predicate, reordering the clauses if due.
+     */
+    void sampled() {
+        if (samples.incrementAndGet() % reorderInterval == 0 && reordering.compareAndSet(false, true)) {
+            try {
+                reorder();
+            } finally {
+                reordering.set(false);
+            }
+        }
+    }
+
+    private void reorder() {
+        final int clauses = passRate.length;
+        final double[] rank = new double[clauses];
+        final List<Integer> indices = new ArrayList<>(clauses);
+        for (int i = 0; i < clauses; i++) {
+            final long n = evaluations[i].sumThenReset();
+            final long passed = passes[i].sumThenReset();
+            final long elapsed = nanos[i].sumThenReset();
+            if (n > 0) {
+                passRate[i] = merge(passRate[i], (double) passed / n);
+                cost[i] = merge(cost[i], (double) elapsed / n);
+            }
+            final double decisive = conjunction ? 1 - passRate[i] : passRate[i];
+            rank[i] = Double.isNaN(cost[i]) ? Double.POSITIVE_INFINITY : cost[i] / decisive;
+            indices.add(i);
+        }
+        Collections.sort(indices, Comparator.comparingDouble(i -> rank[i]));
+        final int[] next = new int[clauses];
+        for (int i = 0; i < clauses; i++) {
+            next[i] = indices.get(i);
+        }
+        order = next;
+    }
+
+    private static double merge(final double previous, final double current) {
+        return Double.isNaN(previous) ? current : SMOOTHING * previous + (1 - SMOOTHING) * current;
+    }
+}
@@ -0,0 +1,107 @@
+package de.treestack.throwing;
+
+import org.jspecify.annotations.Nullable;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Operations on concurrent maps that accept functions that may throw an Exception.
+ *
+ * <pre>{@code
+ * ConcurrentMap<Path, Config> configs = new ConcurrentHashMap<>();
+ * Config config = ConcurrentMaps.computeIfAbsent(configs, path, Config::load); // throws IOException
+ * }</pre>
+ *
+ * @since 1.3
+ */
+public final class ConcurrentMaps {
+
+    private ConcurrentMaps() {
+    }
+
+    /**
+     * Returns the value mapped to the given key, computing and inserting it with the given function if the key is
+     * not mapped yet. Like {@link ConcurrentMap#computeIfAbsent}, but an exception thrown by the function is
+     * rethrown unchanged, and no mapping is inserted.
+     *
+     * <p>If the key is already mapped, the value is returned without locking. For a {@link ConcurrentHashMap}, the
+     * function is called at most once per key, while other updates of the same bin wait for it; it should therefore
+     * be short and must not update the map itself.
+     *
+     * @param map      the map
+     * @param key      the key
+     * @param function the function computing the value, may return {@code null} to insert no mapping
+     * @param <K>      the type of the keys
+     * @param <V>      the type of the values
+     * @param <E>      the type of the exception thrown by the function
+     * @return the current or computed value, or {@code null} if the function returned {@code null}
+     * @throws E if the function throws an exception
+     * @since 1.3
+     */
+    @SuppressWarnings("unchecked")
+    public static <K, V, E extends Exception> @Nullable V computeIfAbsent(final ConcurrentMap<K, V> map, final K key,
+            final Function<? super K, ? extends V, ? extends E> function) throws E {
+        final V value = map.get(key);
+        if (value != null) {
+            return value;
+        }
+        try {
+            return map.computeIfAbsent(key, k -> {
+                try {
+                    return function.apply(k);
+                } catch (final RuntimeException e) {
+                    throw e;
+                } catch (final Exception e) {
+                    throw new Carrier(e);
+                }
+            });
+        } catch (final Carrier e) {
+            throw (E) e.getCause();
+        }
+    }
+
+    /**
+     * Performs the given action for each mapping of the map, in parallel if the map is large enough, using the
+     * bulk operations of {@link ConcurrentHashMap}. As soon as the action throws an exception, no further mappings
+     * are passed to it, and once all running actions have returned, the first exception is rethrown unchanged.
+     *
+     * @param map       the map
+     * @param threshold the estimated number of mappings needed to process them in parallel, see
+     *                  {@link ConcurrentHashMap#forEach(long, java.util.function.BiConsumer)}
+     * @param action    the action
+     * @param <K>       the type of the keys
+     * @param <V>       the type of the values
+     * @param <E>       the type of the exception thrown by the action
+     * @throws E if the action throws an exception
+     * @since 1.3
+     */
+    public static <K, V, E extends Exception> void parallelForEach(final ConcurrentHashMap<K, V> map,
+            final long threshold, final BiConsumer<? super K, ? super V, ? extends E> action) throws E {
+        final FirstFailure failure = new FirstFailure();
+        map.forEach(threshold, (k, v) -> {
+            if (failure.hasFailed()) {
+                return;
+            }
+            try {
+                action.accept(k, v);
+            } catch (final Exception | Error e) {
+                failure.record(e);
+            }
+        });
+        failure.<E>rethrow();
+    }
+
+    /**
+     * Carries a checked exception out of a mapping function of {@link ConcurrentMap#computeIfAbsent}.
+     */
+    private static final class Carrier extends RuntimeException {
+
+        /** The serial version UID. */
+        private static final long serialVersionUID = 1L;
+
+        Carrier(final Exception cause) {
+            super(null, cause, false, false);
+        }
+    }
+}
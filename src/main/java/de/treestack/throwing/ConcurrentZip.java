@@ -0,0 +1,134 @@
+package de.treestack.throwing;
+
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Runs two suppliers that may throw an Exception concurrently and combines their results.
+ *
+ * <p>Both suppliers are forked and the calling thread waits for whichever completes first. If that one failed, the
+ * other one is cancelled, i.e. interrupted, and the exception is rethrown unchanged once the other one has returned
+ * as well, so that no supplier outlives the call. Otherwise the calling thread waits for the other one and applies
+ * the combiner to both results.
+ */
+final class ConcurrentZip {
+
+    private ConcurrentZip() {
+    }
+
+    /**
+     * Runs both suppliers with the given executor and combines their results on the calling thread.
+     * The exception of the branch that fails first is rethrown unchanged, whatever its declared type.
+     *
+     * @return the result of the combiner
+     * @throws InterruptedException if the calling thread is interrupted while waiting; both suppliers are cancelled
+     *                              and have returned
+     */
+    @SuppressWarnings("unchecked")
+    static <A, B, R, E1 extends Exception, E2 extends Exception, E3 extends Exception> R zip(
+            final Executor executor, final Supplier<? extends A, ? extends E1> first,
+            final Supplier<? extends B, ? extends E2> second,
+            final BiFunction<? super A, ? super B, ? extends R, ? extends E3> combiner)
+        throws E1, E2, E3, InterruptedException {
+        final ExecutorCompletionService<Object> service = new ExecutorCompletionService<>(executor);
+        final Branch branchA = new Branch(first);
+        final Branch branchB = new Branch(second);
+        final Future<Object> a = service.submit(branchA);
+        final Future<Object> b;
+        try {
+            b = service.submit(branchB);
+        } catch (final RuntimeException e) {
+            a.cancel(true);
+            branchA.awaitReturn();
+            throw e;
+        }
+        final Object resultA;
+        final Object resultB;
+        try {
+            service.take().get();
+            service.take().get();
+            resultA = a.get();
+            resultB = b.get();
+        } catch (final ExecutionException e) {
+            a.cancel(true);
+            b.cancel(true);
+            branchA.awaitReturn();
+            branchB.awaitReturn();
+            final Throwable cause = e.getCause();
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            } else if (cause instanceof Exception) {
+                throw (E1) cause;
+            }
+            throw new UndeclaredThrowableException(cause);
+        } catch (final InterruptedException e) {
+            a.cancel(true);
+            b.cancel(true);
+            branchA.awaitReturn();
+            branchB.awaitReturn();
+            throw e;
+        }
+        return combiner.apply((A) resultA, (B) resultB);
+    }
+
+    /**
+     * A forked supplier that can be waited for even after its future has been cancelled, which a {@link Future}
+     * does not allow.
+     */
+    private static final class Branch implements Callable<Object> {
+
+        /** The supplier. */
+        private final Supplier<?, ?> supplier;
+
+        /** Set by whichever comes first: the supplier being started, or the caller giving up on starting it. */
+        private final AtomicBoolean claimed = new AtomicBoolean();
+
+        /** Released once the supplier has returned. */
+        private final CountDownLatch returned = new CountDownLatch(1);
+
+        Branch(final Supplier<?, ?> task) {
+            this.supplier = task;
+        }
+
+        @Override
+        public Object call() throws Exception {
+            if (!claimed.compareAndSet(false, true)) {
+                throw new CancellationException();
+            }
+            try {
+                return supplier.get();
+            } finally {
+                returned.countDown();
+            }
+        }
+
+        /**
+         * Waits until the supplier has returned, or makes sure it is never started. Interrupts do not end the wait,
+         * but the interrupt flag is restored afterwards.
+         */
+        void awaitReturn() {
+            if (claimed.compareAndSet(false, true)) {
+                return;
+            }
+            boolean interrupted = false;
+            while (true) {
+                try {
+                    returned.await();
+                    break;
+                } catch (final InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -56,5 +56,48 @@ public interface Consumer<T, E extends Exception> {
     default java.util.function.Consumer<T> unchecked() {
         return unchecked(this);
     }
-}
 
+    /**
+     * Applies this function to each element of the given iterable. Exceptions thrown by the iterable itself, e.g. a
+     * {@link java.util.ConcurrentModificationException}, are propagated unchanged.
+     *
+     * @param in the function arguments
+     * @throws BulkException if this function throws a checked exception; elements before the failing index have
+     *                       been accepted
+     * @since 1.3
+     */
+    default void acceptAll(final Iterable<? extends T> in) throws BulkException {
+        int i = 0;
+        for (final T t : in) {
+            try {
+                accept(t);
+            } catch (final RuntimeException e) {
+                throw e;
+            } catch (final Exception e) {
+                throw new BulkException(i, e);
+            }
+            i++;
+        }
+    }
+
+    /**
+     * Applies this function to each element of the given array.
+     *
+     * @param in the function arguments
+     * @throws BulkException if this function throws a checked exception; elements before the failing index have
+     *                       been accepted
+     * @see #acceptAll(Iterable)
+     * @since 1.3
+     */
+    default void acceptAll(final T[] in) throws BulkException {
+        for (int i = 0; i < in.length; i++) {
+            try {
+                accept(in[i]);
+            } catch (final RuntimeException e) {
+                throw e;
+            } catch (final Exception e) {
+                throw new BulkException(i, e);
+            }
+        }
+    }
+}
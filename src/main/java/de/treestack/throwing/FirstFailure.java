@@ -0,0 +1,45 @@
+package de.treestack.throwing;
+
+import org.jspecify.annotations.Nullable;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Records the first exception or error thrown by any of a number of parallel tasks, so that the other tasks can stop
+ * early and the caller can rethrow it unchanged once all tasks have returned.
+ */
+final class FirstFailure {
+
+    /** The first exception or error, or {@code null} if no task has failed. */
+    private final AtomicReference<@Nullable Throwable> first = new AtomicReference<>();
+
+    /**
+     * Returns whether a task has failed.
+     */
+    boolean hasFailed() {
+        return first.get() != null;
+    }
+
+    /**
+     * Records the given exception or error, unless a failure has already been recorded.
+     */
+    void record(final Throwable e) {
+        first.compareAndSet(null, e);
+    }
+
+    /**
+     * Rethrows the recorded exception or error, if any. An exception is rethrown as {@code E} regardless of its
+     * declared type, so the caller must declare every checked exception the tasks may throw.
+     *
+     * @throws E the recorded exception
+     */
+    @SuppressWarnings("unchecked")
+    <E extends Exception> void rethrow() throws E {
+        final Throwable e = first.get();
+        if (e instanceof Error) {
+            throw (Error) e;
+        } else if (e != null) {
+            throw (E) e;
+        }
+    }
+}
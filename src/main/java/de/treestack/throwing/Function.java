@@ -2,6 +2,10 @@ package de.treestack.throwing;
 
 import org.jspecify.annotations.Nullable;
 
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 
 /**
@@ -99,4 +103,94 @@ public interface Function<T, R, E extends Exception> {
     default java.util.function.Function<T, R> unchecked() {
         return unchecked(this);
     }
+
+    /**
+     * Creates a function that invokes the given method: either an instance method without parameters, which is
+     * invoked on the function argument, or a static method with one parameter.
+     *
+     * <p>If the method is public and visible from the class loader of this library, the function is created with
+     * {@link java.lang.invoke.LambdaMetafactory} and is as fast as a method reference. Otherwise it invokes a method
+     * handle. In both cases, exceptions thrown by the method are propagated unchanged, without an
+     * {@link java.lang.reflect.InvocationTargetException} wrapper. To adapt a non-public method, make it accessible
+     * with {@link Method#setAccessible(boolean)} first.
+     *
+     * @param method the method to invoke
+     * @param <T>    the type of the input to the function
+     * @param <R>    the type of the result of the function
+     * @return a function that invokes the method
+     * @throws IllegalArgumentException if the method has the wrong number of parameters or is not accessible
+     * @since 1.3
+     */
+    static <T, R> Function<T, R, Exception> ofMethod(final Method method) {
+        return MethodAdapters.function(method);
+    }
+
+    /**
+     * Applies this function to each element of {@code in} and stores the result at the same index of {@code out}.
+     * Exceptions thrown when storing a result, e.g. an {@link ArrayStoreException}, are propagated unchanged.
+     *
+     * @param in  the function arguments
+     * @param out the array receiving the results, at least as long as {@code in}
+     * @throws BulkException            if this function throws a checked exception; elements before the failing
+     *                                  index have been stored in {@code out}
+     * @throws IllegalArgumentException if {@code out} is shorter than {@code in}
+     * @since 1.3
+     */
+    default void applyAll(final T[] in, final R[] out) throws BulkException {
+        if (out.length < in.length) {
+            throw new IllegalArgumentException("output array is shorter than input array: " + out.length);
+        }
+        for (int i = 0; i < in.length; i++) {
+            final R result;
+            try {
+                result = apply(in[i]);
+            } catch (final RuntimeException e) {
+                throw e;
+            } catch (final Exception e) {
+                throw new BulkException(i, e);
+            }
+            out[i] = result;
+        }
+    }
+
+    /**
+     * Applies this function to each element of the given list.
+     *
+     * @param in the function arguments
+     * @return a new list containing the results, in the order of the arguments
+     * @throws BulkException if this function throws a checked exception
+     * @see #applyAll(Object[], Object[])
+     * @since 1.3
+     */
+    default List<R> applyAll(final List<? extends T> in) throws BulkException {
+        final List<R> out = new ArrayList<>(in.size());
+        int i = 0;
+        for (final T t : in) {
+            final R result;
+            try {
+                result = apply(t);
+            } catch (final RuntimeException e) {
+                throw e;
+            } catch (final Exception e) {
+                throw new BulkException(i, e);
+            }
+            out.add(result);
+            i++;
+        }
+        return out;
+    }
+
+    /**
+     * Returns a function that applies this function again if it throws an exception, as decided by the given
+     * policy. If the policy gives up, the last exception is rethrown unchanged.
+     *
+     * @param policy the retry policy
+     * @return a function that retries this function
+     * @see Supplier#retrying(RetryPolicy)
+     * @since 1.3
+     */
+    default Function<T, R, E> retrying(final RetryPolicy policy) {
+        Objects.requireNonNull(policy);
+        return t -> policy.call(() -> apply(t));
+    }
 }
@@ -0,0 +1,75 @@
+package de.treestack.throwing;
+
+import org.jspecify.annotations.Nullable;
+
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+
+/**
+ * An iterator backed by a generator function that returns {@code null} at the end of the input.
+ *
+ * @param <T> the type of the elements
+ * @param <E> the type of the exception thrown by the generator
+ */
+final class GeneratingIterator<T, E extends Exception> implements Iterator<T, E> {
+
+    /** The generator function. */
+    private final Supplier<? extends T, E> generator;
+
+    /** The element fetched by {@link #hasNext()} but not yet returned by {@link #next()}. */
+    private @Nullable T lookahead;
+
+    /** Whether the generator has returned {@code null}. */
+    private boolean exhausted;
+
+    GeneratingIterator(final Supplier<? extends T, E> source) {
+        this.generator = source;
+    }
+
+    @Override
+    public boolean hasNext() throws E {
+        if (lookahead == null && !exhausted) {
+            lookahead = generator.get();
+            exhausted = lookahead == null;
+        }
+        return lookahead != null;
+    }
+
+    @Override
+    public T next() throws E {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        final T next = lookahead;
+        lookahead = null;
+        return next;
+    }
+
+    /**
+     * Returns a spliterator that advances this iterator directly instead of going through {@link #unchecked()}.
+     * Since the generator signals the end of the input with {@code null}, the spliterator reports
+     * {@link Spliterator#NONNULL}.
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return new Spliterators.AbstractSpliterator<T>(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL) {
+            @Override
+            public boolean tryAdvance(final java.util.function.Consumer<? super T> action) {
+                final T next;
+                try {
+                    if (!hasNext()) {
+                        return false;
+                    }
+                    next = GeneratingIterator.this.next();
+                } catch (final RuntimeException e) {
+                    throw e;
+                } catch (final Exception e) {
+                    throw new RuntimeException(e.getMessage(), e);
+                }
+                action.accept(next);
+                return true;
+            }
+        };
+    }
+}
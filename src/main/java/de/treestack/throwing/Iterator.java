@@ -0,0 +1,139 @@
+package de.treestack.throwing;
+
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * An iterator over a sequence of elements whose traversal may throw an Exception.
+ *
+ * <p>Unlike the other interfaces in this package, this is not a functional interface. It is intended for lazy,
+ * element-by-element sources such as {@code BufferedReader.readLine()} or {@code ResultSet.next()}, which can be
+ * adapted with {@link #generate(Supplier)} and then consumed as a {@link Stream} without materializing the input.
+ *
+ * @param <T> the type of elements returned by this iterator
+ * @param <E> the type of the exception that may be thrown
+ * @since 1.3
+ */
+public interface Iterator<T, E extends Exception> {
+
+    /**
+     * Returns {@code true} if the iteration has more elements.
+     *
+     * @return {@code true} if the iteration has more elements
+     * @throws E if an exception occurs
+     * @since 1.3
+     */
+    boolean hasNext() throws E;
+
+    /**
+     * Returns the next element in the iteration.
+     *
+     * @return the next element in the iteration
+     * @throws E                                if an exception occurs
+     * @throws java.util.NoSuchElementException if the iteration has no more elements
+     * @since 1.3
+     */
+    T next() throws E;
+
+    /**
+     * Creates an iterator from a generator function. The generator is called once per element and signals the end
+     * of the input by returning {@code null}, which makes it a direct fit for methods like
+     * {@code BufferedReader::readLine}. The generator is never called again once it has returned {@code null}.
+     *
+     * @param generator the generator function
+     * @param <T>       the type of the elements
+     * @param <E>       the type of the exception thrown by the generator
+     * @return an iterator over the generated elements
+     * @since 1.3
+     */
+    static <T, E extends Exception> Iterator<T, E> generate(final Supplier<? extends T, E> generator) {
+        return new GeneratingIterator<>(Objects.requireNonNull(generator));
+    }
+
+    /**
+     * Wraps an iterator that may throw an exception into an iterator that will throw a RuntimeException if the
+     * original iterator throws an exception.
+     *
+     * @param iterator the iterator to wrap
+     * @param <T>      the type of the elements
+     * @param <E>      the type of the exception thrown by the iterator
+     * @return an iterator that will throw a RuntimeException if the original iterator throws an exception
+     * @since 1.3
+     */
+    static <T, E extends Exception> java.util.Iterator<T> unchecked(final Iterator<T, E> iterator) {
+        return new java.util.Iterator<T>() {
+            @Override
+            public boolean hasNext() {
+                try {
+                    return iterator.hasNext();
+                } catch (final RuntimeException e) {
+                    throw e;
+                } catch (final Exception e) {
+                    throw new RuntimeException(e.getMessage(), e);
+                }
+            }
+
+            @Override
+            public T next() {
+                try {
+                    return iterator.next();
+                } catch (final RuntimeException e) {
+                    throw e;
+                } catch (final Exception e) {
+                    throw new RuntimeException(e.getMessage(), e);
+                }
+            }
+        };
+    }
+
+    /**
+     * Wraps this iterator that may throw an exception into an iterator that will throw a RuntimeException if
+     * the original iterator throws an exception.
+     *
+     * @return an iterator that will throw a RuntimeException if the original iterator throws an exception
+     * @see #unchecked(Iterator)
+     * @since 1.3
+     */
+    default java.util.Iterator<T> unchecked() {
+        return unchecked(this);
+    }
+
+    /**
+     * Creates an ordered, late-binding {@link Spliterator} over the remaining elements of this iterator. Checked
+     * exceptions thrown during traversal are wrapped in a RuntimeException.
+     *
+     * @return a spliterator over the remaining elements
+     * @since 1.3
+     */
+    default Spliterator<T> spliterator() {
+        return Spliterators.spliteratorUnknownSize(unchecked(), Spliterator.ORDERED);
+    }
+
+    /**
+     * Creates an ordered, late-binding {@link Spliterator} over the remaining elements of this iterator that reports
+     * the given number of elements. Use this if the size of the source is known in advance, e.g. from a count query.
+     *
+     * @param size the number of remaining elements
+     * @return a sized spliterator over the remaining elements
+     * @since 1.3
+     */
+    default Spliterator<T> spliterator(final long size) {
+        return Spliterators.spliterator(unchecked(), size, Spliterator.ORDERED);
+    }
+
+    /**
+     * Creates a sequential {@link Stream} over the remaining elements of this iterator. Elements are pulled from the
+     * iterator one at a time as the stream is consumed. Checked exceptions thrown during traversal are wrapped in a
+     * RuntimeException.
+     *
+     * @return a stream over the remaining elements
+     * @since 1.3
+     */
+    default Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+}
+
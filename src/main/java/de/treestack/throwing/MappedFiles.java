@@ -0,0 +1,238 @@
+package de.treestack.throwing;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.IntFunction;
+import java.util.stream.IntStream;
+
+/**
+ * Utility methods to process large files record by record with functions that may throw an Exception.
+ *
+ * <p>The file is memory-mapped and split into chunks on record boundaries, and the chunks are processed in parallel
+ * in the {@link ForkJoinPool#commonPool() common pool}. Records are passed to the function as {@link CharSequence}s
+ * that do not include the delimiter. If the delimiter is a newline, a trailing carriage return is removed as well.
+ *
+ * <p>Where the charset allows it, a record is a view over the mapped buffer rather than a copy: this is always the
+ * case for ISO-8859-1, and for UTF-8 and US-ASCII as long as the record only contains ASCII characters. Such views
+ * are reused, so a record must not be retained after the function returns. Call {@code toString()} to keep a copy.
+ *
+ * <p>The first exception thrown by the function stops the run and is rethrown unchanged. Records within a chunk are
+ * processed in order, records in different chunks concurrently.
+ *
+ * @since 1.3
+ */
+public final class MappedFiles {
+
+    /** The default record delimiter. */
+    private static final byte NEWLINE = '\n';
+
+    /** Removed from the end of a record if the delimiter is a newline. */
+    private static final byte CARRIAGE_RETURN = '\r';
+
+    /** Chunks are not made smaller than 1 MiB, to keep the per-chunk overhead low. */
+    private static final long MIN_CHUNK_SIZE = 1_048_576L;
+
+    /** Chunks are not made larger than 64 MiB, so a chunk always fits into a single mapping. */
+    private static final long MAX_CHUNK_SIZE = 67_108_864L;
+
+    /** The number of chunks per worker thread, to balance the load if records are of uneven cost. */
+    private static final int CHUNKS_PER_THREAD = 4;
+
+    /** The size of the buffer used to find the next record boundary. */
+    private static final int SCAN_BUFFER_SIZE = 8192;
+
+    private MappedFiles() {
+    }
+
+    /**
+     * Performs the given action for each newline-delimited record of a UTF-8 encoded file.
+     *
+     * @param file     the file to read
+     * @param consumer the action to perform for each record
+     * @param <E>      the type of the exception thrown by the action
+     * @throws IOException if an I/O error occurs
+     * @throws E           if the action throws an exception
+     * @since 1.3
+     */
+    public static <E extends Exception> void forEachRecord(
+            final Path file, final Consumer<? super CharSequence, E> consumer) throws IOException, E {
+        forEachRecord(file, NEWLINE, StandardCharsets.UTF_8, consumer);
+    }
+
+    /**
+     * Performs the given action for each record of a file.
+     *
+     * @param file      the file to read
+     * @param delimiter the byte that separates records, which the charset must encode as a single byte
+     * @param charset   the charset of the file
+     * @param consumer  the action to perform for each record
+     * @param <E>       the type of the exception thrown by the action
+     * @throws IOException if an I/O error occurs
+     * @throws E           if the action throws an exception
+     * @since 1.3
+     */
+    public static <E extends Exception> void forEachRecord(
+            final Path file, final byte delimiter, final Charset charset,
+            final Consumer<? super CharSequence, E> consumer) throws IOException, E {
+        process(file, delimiter, charset, chunk -> consumer);
+    }
+
+    /**
+     * Applies the given function to each newline-delimited record of a UTF-8 encoded file.
+     *
+     * @param file     the file to read
+     * @param function the function to apply to each record
+     * @param <R>      the type of the result of the function
+     * @param <E>      the type of the exception thrown by the function
+     * @return the results of the function, in the order of the records in the file
+     * @throws IOException if an I/O error occurs
+     * @throws E           if the function throws an exception
+     * @since 1.3
+     */
+    public static <R, E extends Exception> List<R> mapRecords(
+            final Path file, final Function<? super CharSequence, ? extends R, E> function) throws IOException, E {
+        return mapRecords(file, NEWLINE, StandardCharsets.UTF_8, function);
+    }
+
+    /**
+     * Applies the given function to each record of a file.
+     *
+     * @param file      the file to read
+     * @param delimiter the byte that separates records, which the charset must encode as a single byte
+     * @param charset   the charset of the file
+     * @param function  the function to apply to each record
+     * @param <R>       the type of the result of the function
+     * @param <E>       the type of the exception thrown by the function
+     * @return the results of the function, in the order of the records in the file
+     * @throws IOException if an I/O error occurs
+     * @throws E           if the function throws an exception
+     * @since 1.3
+     */
+    public static <R, E extends Exception> List<R> mapRecords(
+            final Path file, final byte delimiter, final Charset charset,
+            final Function<? super CharSequence, ? extends R, E> function) throws IOException, E {
+        final List<List<R>> chunks = new ArrayList<>();
+        process(file, delimiter, charset, chunk -> {
+            final List<R> results = new ArrayList<>();
+            synchronized (chunks) {
+                while (chunks.size() <= chunk) {
+                    chunks.add(null);
+                }
+                chunks.set(chunk, results);
+            }
+            return record -> results.add(function.apply(record));
+        });
+        final List<R> results = new ArrayList<>();
+        for (final List<R> chunk : chunks) {
+            results.addAll(chunk);
+        }
+        return results;
+    }
+
+    private static <E extends Exception> void process(
+            final Path file, final byte delimiter, final Charset charset,
+            final IntFunction<Consumer<? super CharSequence, E>> consumers) throws IOException, E {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            final long[] bounds = split(channel, delimiter);
+            final FirstFailure failure = new FirstFailure();
+            IntStream.range(0, bounds.length - 1).parallel().forEach(chunk -> {
+                try {
+                    final Consumer<? super CharSequence, E> consumer = consumers.apply(chunk);
+                    if (!failure.hasFailed()) {
+                        final MappedByteBuffer buffer = channel.map(
+                                FileChannel.MapMode.READ_ONLY, bounds[chunk], bounds[chunk + 1] - bounds[chunk]);
+                        forEachRecord(buffer, delimiter, charset, consumer, failure);
+                    }
+                } catch (final Exception | Error e) {
+                    failure.record(e);
+                }
+            });
+            failure.<E>rethrow();
+        }
+    }
+
+    /**
+     * Splits the file into chunks that start and end on record boundaries.
+     *
+     * @return the chunk boundaries, starting with {@code 0} and ending with the size of the file
+     */
+    private static long[] split(final FileChannel channel, final byte delimiter) throws IOException {
+        final long size = channel.size();
+        final long target = size / ((long) ForkJoinPool.getCommonPoolParallelism() * CHUNKS_PER_THREAD);
+        final long chunkSize = Math.min(Math.max(target, MIN_CHUNK_SIZE), MAX_CHUNK_SIZE);
+        final List<Long> bounds = new ArrayList<>();
+        long start = 0;
+        bounds.add(start);
+        while (start < size) {
+            start = start + chunkSize >= size ? size : nextRecord(channel, start + chunkSize - 1, delimiter, size);
+            bounds.add(start);
+        }
+        return bounds.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    /**
+     * Returns the position of the first record that starts after the given position.
+     */
+    private static long nextRecord(
+            final FileChannel channel, final long from, final byte delimiter, final long size) throws IOException {
+        final ByteBuffer buffer = ByteBuffer.allocate(SCAN_BUFFER_SIZE);
+        long position = from;
+        int read = channel.read(buffer, position);
+        while (read > 0) {
+            for (int i = 0; i < read; i++) {
+                if (buffer.get(i) == delimiter) {
+                    return position + i + 1;
+                }
+            }
+            position += read;
+            buffer.clear();
+            read = channel.read(buffer, position);
+        }
+        return size;
+    }
+
+    private static <E extends Exception> void forEachRecord(
+            final ByteBuffer buffer, final byte delimiter, final Charset charset,
+            final Consumer<? super CharSequence, E> consumer, final FirstFailure failure) throws E {
+        final boolean latin1 = StandardCharsets.ISO_8859_1.equals(charset);
+        final boolean asciiCompatible = latin1
+                || StandardCharsets.UTF_8.equals(charset)
+                || StandardCharsets.US_ASCII.equals(charset);
+        final ByteCharSequence view = new ByteCharSequence(buffer);
+        final int limit = buffer.limit();
+        int start = 0;
+        while (start < limit && !failure.hasFailed()) {
+            boolean ascii = true;
+            int end = start;
+            while (end < limit) {
+                final byte b = buffer.get(end);
+                if (b == delimiter) {
+                    break;
+                }
+                ascii &= b >= 0;
+                end++;
+            }
+            int recordEnd = end;
+            if (delimiter == NEWLINE && recordEnd > start && buffer.get(recordEnd - 1) == CARRIAGE_RETURN) {
+                recordEnd--;
+            }
+            if (latin1 || (asciiCompatible && ascii)) {
+                consumer.accept(view.reset(start, recordEnd));
+            } else {
+                final ByteBuffer record = buffer.duplicate();
+                record.limit(recordEnd).position(start);
+                consumer.accept(charset.decode(record));
+            }
+            start = end + 1;
+        }
+    }
+}
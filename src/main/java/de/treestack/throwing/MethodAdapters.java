@@ -0,0 +1,182 @@
+package de.treestack.throwing;
+
+import org.jspecify.annotations.Nullable;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.UndeclaredThrowableException;
+
+/**
+ * Adapts reflective methods and constructors to the functional interfaces of this package.
+ *
+ * <p>Where possible, the adapter is spun with {@link LambdaMetafactory}, so that it is as fast as a method
+ * reference. This requires the member to be public and exported, and its declaring class and all types in its
+ * signature to be visible from the class loader of this library. Otherwise, e.g. for plugins loaded by a child class
+ * loader, the adapter invokes a {@link MethodHandle}. In both cases exceptions thrown by the member are propagated
+ * unchanged.
+ */
+final class MethodAdapters {
+
+    /** The lookup used to unreflect members and to spin adapters. */
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    private MethodAdapters() {
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T, R> Function<T, R, Exception> function(final Method method) {
+        final MethodHandle target = unreflect(method, Modifier.isStatic(method.getModifiers()) ? 1 : 0);
+        final Function<T, R, Exception> function = spin(Function.class, "apply", target, method);
+        if (function != null) {
+            return function;
+        }
+        final MethodHandle generic = target.asType(target.type().generic());
+        return t -> {
+            try {
+                return (R) (Object) generic.invokeExact((Object) t);
+            } catch (final Exception | Error e) {
+                throw e;
+            } catch (final Throwable e) {
+                throw new UndeclaredThrowableException(e);
+            }
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T1, T2, R> BiFunction<T1, T2, R, Exception> biFunction(final Method method) {
+        final MethodHandle target = unreflect(method, Modifier.isStatic(method.getModifiers()) ? 2 : 1);
+        final BiFunction<T1, T2, R, Exception> function = spin(BiFunction.class, "apply", target, method);
+        if (function != null) {
+            return function;
+        }
+        final MethodHandle generic = target.asType(target.type().generic());
+        return (t1, t2) -> {
+            try {
+                return (R) (Object) generic.invokeExact((Object) t1, (Object) t2);
+            } catch (final Exception | Error e) {
+                throw e;
+            } catch (final Throwable e) {
+                throw new UndeclaredThrowableException(e);
+            }
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    static <R> Supplier<R, Exception> supplier(final Constructor<? extends R> constructor) {
+        if (constructor.getParameterCount() != 0) {
+            throw new IllegalArgumentException("constructor must not have parameters: " + constructor);
+        }
+        final MethodHandle target;
+        try {
+            target = LOOKUP.unreflectConstructor(constructor);
+        } catch (final IllegalAccessException e) {
+            throw new IllegalArgumentException("constructor is not accessible: " + constructor, e);
+        }
+        final Supplier<R, Exception> supplier = spin(Supplier.class, "get", target, constructor);
+        if (supplier != null) {
+            return supplier;
+        }
+        final MethodHandle generic = target.asType(target.type().generic());
+        return () -> {
+            try {
+                return (R) (Object) generic.invokeExact();
+            } catch (final Exception | Error e) {
+                throw e;
+            } catch (final Throwable e) {
+                throw new UndeclaredThrowableException(e);
+            }
+        };
+    }
+
+    private static MethodHandle unreflect(final Method method, final int parameters) {
+        if (method.getParameterCount() != parameters) {
+            throw new IllegalArgumentException("method must have " + parameters + " parameter(s): " + method);
+        }
+        try {
+            return LOOKUP.unreflect(method);
+        } catch (final IllegalAccessException e) {
+            throw new IllegalArgumentException("method is not accessible: " + method, e);
+        }
+    }
+
+    /**
+     * Spins an implementation of the given functional interface that calls the target directly.
+     *
+     * @return the implementation, or {@code null} if the target cannot be linked from this class loader
+     */
+    @SuppressWarnings("unchecked")
+    private static <F> @Nullable F spin(
+            final Class<?> type, final String name, final MethodHandle target, final Member member) {
+        final MethodType signature = target.type();
+        if (signature.returnType() == void.class || !isLinkable(member, signature)) {
+            return null;
+        }
+        try {
+            final CallSite site = LambdaMetafactory.metafactory(
+                    LOOKUP, name, MethodType.methodType(type), signature.generic(), target, signature.wrap());
+            return (F) site.getTarget().invoke();
+        } catch (final Throwable e) {
+            return null;
+        }
+    }
+
+    private static boolean isLinkable(final Member member, final MethodType signature) {
+        if (!isPublic(member) || !isVisible(member.getDeclaringClass())) {
+            return false;
+        }
+        for (final Class<?> parameter : signature.parameterArray()) {
+            if (!isVisible(parameter)) {
+                return false;
+            }
+        }
+        return isVisible(signature.returnType());
+    }
+
+    /**
+     * Returns whether the member is accessible to any class, regardless of its accessible flag. On Java 9 and later,
+     * this also takes module exports into account.
+     */
+    private static boolean isPublic(final Member member) {
+        final MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+        final Class<?> owner = member.getDeclaringClass();
+        try {
+            if (member instanceof Constructor) {
+                final Constructor<?> constructor = (Constructor<?>) member;
+                lookup.findConstructor(owner, MethodType.methodType(void.class, constructor.getParameterTypes()));
+                return true;
+            }
+            final Method method = (Method) member;
+            final MethodType type = MethodType.methodType(method.getReturnType(), method.getParameterTypes());
+            if (Modifier.isStatic(method.getModifiers())) {
+                lookup.findStatic(owner, method.getName(), type);
+            } else {
+                lookup.findVirtual(owner, method.getName(), type);
+            }
+            return true;
+        } catch (final ReflectiveOperationException e) {
+            return false;
+        }
+    }
+
+    private static boolean isVisible(final Class<?> type) {
+        Class<?> element = type;
+        while (element.isArray()) {
+            element = element.getComponentType();
+        }
+        if (element.isPrimitive()) {
+            return true;
+        }
+        try {
+            return Class.forName(element.getName(), false, MethodAdapters.class.getClassLoader()) == element;
+        } catch (final ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+}
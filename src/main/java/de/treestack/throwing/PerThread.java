@@ -0,0 +1,107 @@
+package de.treestack.throwing;
+
+import java.util.Objects;
+
+/**
+ * Hands out one lazily created instance of a non-thread-safe object per thread, such as a {@code MessageDigest},
+ * {@code Mac} or {@code SimpleDateFormat}. Instances are created by a factory that may throw an Exception.
+ *
+ * <p>On platform threads, each thread gets its own instance, which is kept in a {@link ThreadLocal}. On virtual
+ * threads, where a {@link ThreadLocal} would create one instance per task, instances are borrowed from a
+ * {@link Pool} for the duration of the call instead. There is no public API to find the carrier thread or the
+ * processor of a virtual thread, so the pool cannot keep an instance per carrier; its stripes are selected by the
+ * virtual thread, and since virtual threads are usually short-lived, most instances go through the shared queue of
+ * the pool. The number of instances is still bounded by the number of calls running at the same time.
+ *
+ * <p>Because the instance may be shared with other virtual threads after the call returns, it is only handed out
+ * to a function and must not escape it:
+ *
+ * <pre>{@code
+ * PerThread<MessageDigest, NoSuchAlgorithmException> sha256 =
+ *         Supplier.perThread(() -> MessageDigest.getInstance("SHA-256"));
+ *
+ * byte[] hash = sha256.apply(digest -> digest.digest(bytes));
+ * }</pre>
+ *
+ * @param <T> the type of the instances
+ * @param <E> the type of the exception that may be thrown when creating an instance
+ * @see Supplier#perThread()
+ * @since 1.3
+ */
+public final class PerThread<T, E extends Exception> {
+
+    /** The factory that creates new instances. */
+    private final Supplier<? extends T, ? extends E> factory;
+
+    /** The instances of platform threads. */
+    private final ThreadLocal<T> instances = new ThreadLocal<>();
+
+    /** The instances shared by virtual threads. */
+    private final Pool<T, E> pool;
+
+    private PerThread(final Supplier<? extends T, ? extends E> instanceFactory) {
+        this.factory = instanceFactory;
+        this.pool = Pool.<T, E>builder(instanceFactory).build();
+    }
+
+    /**
+     * Creates a new {@code PerThread} whose instances are created by the given factory.
+     *
+     * @param factory the factory that creates new instances, must not return {@code null}
+     * @param <T>     the type of the instances
+     * @param <E>     the type of the exception thrown by the factory
+     * @return a new {@code PerThread}
+     * @since 1.3
+     */
+    public static <T, E extends Exception> PerThread<T, E> of(final Supplier<? extends T, ? extends E> factory) {
+        return new PerThread<>(Objects.requireNonNull(factory));
+    }
+
+    /**
+     * Applies the given function to the instance of the current thread, creating it if necessary.
+     *
+     * @param function the function to apply, must not retain the instance
+     * @param <R>      the type of the result of the function
+     * @param <X>      the type of the exception thrown by the function
+     * @return the result of the function
+     * @throws E if the factory throws an exception
+     * @throws X if the function throws an exception
+     * @since 1.3
+     */
+    public <R, X extends Exception> R apply(final Function<? super T, ? extends R, X> function) throws E, X {
+        if (Threads.isVirtual(Thread.currentThread())) {
+            try (Pool.Lease<T> lease = pool.borrow()) {
+                return function.apply(lease.get());
+            }
+        }
+        return function.apply(get());
+    }
+
+    /**
+     * Performs the given action with the instance of the current thread, creating it if necessary.
+     *
+     * @param consumer the action to perform, must not retain the instance
+     * @param <X>      the type of the exception thrown by the action
+     * @throws E if the factory throws an exception
+     * @throws X if the action throws an exception
+     * @since 1.3
+     */
+    public <X extends Exception> void accept(final Consumer<? super T, X> consumer) throws E, X {
+        if (Threads.isVirtual(Thread.currentThread())) {
+            try (Pool.Lease<T> lease = pool.borrow()) {
+                consumer.accept(lease.get());
+            }
+            return;
+        }
+        consumer.accept(get());
+    }
+
+    private T get() throws E {
+        T instance = instances.get();
+        if (instance == null) {
+            instance = Objects.requireNonNull(factory.get(), "factory returned null");
+            instances.set(instance);
+        }
+        return instance;
+    }
+}
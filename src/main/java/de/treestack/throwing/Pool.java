@@ -0,0 +1,436 @@
+package de.treestack.throwing;
+
+import org.jspecify.annotations.Nullable;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A lock-free pool of objects that are expensive to create and not thread-safe, created by a factory that may throw
+ * an Exception.
+ *
+ * <p>Objects are borrowed with {@link #borrow()} and returned by closing the {@link Lease}, typically in a
+ * try-with-resources block:
+ *
+ * <pre>{@code
+ * Pool<Cipher, GeneralSecurityException> ciphers = Pool.builder(() -> Cipher.getInstance("AES/GCM/NoPadding"))
+ *         .build();
+ *
+ * try (Pool.Lease<Cipher> cipher = ciphers.borrow()) {
+ *     cipher.get().init(Cipher.ENCRYPT_MODE, key, spec);
+ *     return cipher.get().doFinal(plaintext);
+ * }
+ * }</pre>
+ *
+ * <p>Idle objects are kept in a small number of slots selected by the current thread, so that a thread usually gets
+ * back the object it returned last, with a shared queue as fallback. Borrowing never blocks: if no idle object is
+ * available, a new one is created. The pool only bounds the number of idle objects it keeps, objects returned to a
+ * full pool are disposed.
+ *
+ * @param <T> the type of the pooled objects
+ * @param <E> the type of the exception that may be thrown when creating or validating an object
+ * @since 1.3
+ */
+public final class Pool<T, E extends Exception> {
+
+    /** The factory that creates new objects. */
+    private final Supplier<? extends T, ? extends E> factory;
+
+    /** Checks whether an idle object can still be used, or {@code null} if objects are not validated. */
+    private final @Nullable Predicate<? super T, ? extends E> validator;
+
+    /** Releases the resources of a discarded object, or {@code null} if objects are simply dropped. */
+    private final @Nullable Consumer<? super T, ? extends Exception> disposer;
+
+    /** The maximum number of idle objects. */
+    private final int maxIdle;
+
+    /** The time after which an idle object is evicted, or {@code 0} if idle objects do not expire. */
+    private final long idleTimeoutNanos;
+
+    /** The per-thread fast path, indexed by {@link #stripe()}. */
+    private final AtomicReferenceArray<@Nullable Entry<T>> stripes;
+
+    /** The shared fallback for idle objects that did not fit into their stripe. */
+    private final ConcurrentLinkedDeque<Entry<T>> shared = new ConcurrentLinkedDeque<>();
+
+    /** The number of idle objects, in stripes and in the shared queue. */
+    private final AtomicInteger idle = new AtomicInteger();
+
+    private Pool(final Builder<T, E> builder) {
+        this.factory = builder.factory;
+        this.validator = builder.validation;
+        this.disposer = builder.disposal;
+        this.maxIdle = builder.idleCapacity;
+        this.idleTimeoutNanos = builder.idleTimeout.toNanos();
+        this.stripes = new AtomicReferenceArray<>(tableSizeFor(Runtime.getRuntime().availableProcessors()));
+    }
+
+    /**
+     * Creates a builder for a pool whose objects are created by the given factory.
+     *
+     * @param factory the factory that creates new objects, must not return {@code null}
+     * @param <T>     the type of the pooled objects
+     * @param <E>     the type of the exception thrown by the factory
+     * @return a new builder
+     * @since 1.3
+     */
+    public static <T, E extends Exception> Builder<T, E> builder(final Supplier<? extends T, ? extends E> factory) {
+        return new Builder<>(Objects.requireNonNull(factory));
+    }
+
+    /**
+     * Borrows an object from the pool, creating a new one if no valid idle object is available.
+     * The object must be returned by closing the lease.
+     *
+     * @return a lease on the borrowed object
+     * @throws E if the factory or the validator throws an exception
+     * @since 1.3
+     */
+    public Lease<T> borrow() throws E {
+        Entry<T> entry = poll();
+        while (entry != null) {
+            if (isExpired(entry, System.nanoTime())) {
+                dispose(entry.value);
+            } else if (validate(entry)) {
+                return new Loan<>(this, entry);
+            }
+            entry = poll();
+        }
+        return new Loan<>(this, new Entry<>(Objects.requireNonNull(factory.get(), "factory returned null")));
+    }
+
+    /**
+     * Disposes all idle objects that have not been used for longer than the idle timeout.
+     * Does nothing if no idle timeout is configured.
+     *
+     * @since 1.3
+     */
+    public void evictIdle() {
+        if (idleTimeoutNanos == 0) {
+            return;
+        }
+        final long now = System.nanoTime();
+        for (int i = 0; i < stripes.length(); i++) {
+            final Entry<T> entry = stripes.get(i);
+            if (entry != null && isExpired(entry, now) && stripes.compareAndSet(i, entry, null)) {
+                idle.decrementAndGet();
+                dispose(entry.value);
+            }
+        }
+        for (final Entry<T> entry : shared) {
+            if (isExpired(entry, now) && shared.removeFirstOccurrence(entry)) {
+                idle.decrementAndGet();
+                dispose(entry.value);
+            }
+        }
+    }
+
+    /**
+     * Disposes all idle objects. Objects that are currently borrowed are not affected.
+     *
+     * @since 1.3
+     */
+    public void clear() {
+        Entry<T> entry = poll();
+        while (entry != null) {
+            dispose(entry.value);
+            entry = poll();
+        }
+    }
+
+    /**
+     * Returns the number of idle objects in the pool.
+     *
+     * @return the number of idle objects
+     * @since 1.3
+     */
+    public int idleCount() {
+        return idle.get();
+    }
+
+    private @Nullable Entry<T> poll() {
+        final int stripe = stripe();
+        Entry<T> entry = stripes.get(stripe);
+        if (entry != null && stripes.compareAndSet(stripe, entry, null)) {
+            idle.decrementAndGet();
+            return entry;
+        }
+        entry = shared.pollFirst();
+        if (entry != null) {
+            idle.decrementAndGet();
+            return entry;
+        }
+        for (int i = 0; i < stripes.length(); i++) {
+            entry = stripes.get(i);
+            if (entry != null && stripes.compareAndSet(i, entry, null)) {
+                idle.decrementAndGet();
+                return entry;
+            }
+        }
+        return null;
+    }
+
+    private void release(final Entry<T> entry) {
+        if (idle.incrementAndGet() > maxIdle) {
+            idle.decrementAndGet();
+            dispose(entry.value);
+            return;
+        }
+        if (idleTimeoutNanos != 0) {
+            entry.lastUsed = System.nanoTime();
+        }
+        final int stripe = stripe();
+        if (stripes.get(stripe) != null || !stripes.compareAndSet(stripe, null, entry)) {
+            shared.offerFirst(entry);
+        }
+    }
+
+    private boolean validate(final Entry<T> entry) throws E {
+        if (validator == null) {
+            return true;
+        }
+        boolean valid = false;
+        try {
+            valid = validator.test(entry.value);
+        } finally {
+            if (!valid) {
+                dispose(entry.value);
+            }
+        }
+        return valid;
+    }
+
+    private boolean isExpired(final Entry<T> entry, final long now) {
+        return idleTimeoutNanos != 0 && now - entry.lastUsed > idleTimeoutNanos;
+    }
+
+    private void dispose(final T value) {
+        if (disposer == null) {
+            return;
+        }
+        try {
+            disposer.accept(value);
+        } catch (final Exception ignored) {
+            // the object is discarded either way
+        }
+    }
+
+    /**
+     * Returns the stripe of the current thread. Virtual threads are hashed by their own id, as there is no public
+     * API to find their carrier thread; short-lived virtual threads therefore mostly use the shared queue.
+     */
+    private int stripe() {
+        final long id = Thread.currentThread().getId();
+        final int hash = (int) (id ^ (id >>> Integer.SIZE));
+        return (hash ^ (hash >>> (Integer.SIZE / 2))) & (stripes.length() - 1);
+    }
+
+    private static int tableSizeFor(final int n) {
+        return Integer.highestOneBit(Math.max(n, 1) * 2 - 1);
+    }
+
+    /**
+     * A borrowed object. Closing the lease returns the object to the pool.
+     *
+     * @param <T> the type of the borrowed object
+     * @since 1.3
+     */
+    public interface Lease<T> extends AutoCloseable {
+
+        /**
+         * Returns the borrowed object.
+         *
+         * @return the borrowed object
+         * @since 1.3
+         */
+        T get();
+
+        /**
+         * Marks the borrowed object as broken, so that it is disposed instead of being returned to the pool
+         * when the lease is closed.
+         *
+         * @since 1.3
+         */
+        void invalidate();
+
+        /**
+         * Returns the borrowed object to the pool. Closing a lease more than once has no effect.
+         *
+         * @since 1.3
+         */
+        @Override
+        void close();
+    }
+
+    /**
+     * A pooled object.
+     *
+     * @param <T> the type of the pooled object
+     */
+    private static final class Entry<T> {
+
+        /** The pooled object. */
+        private final T value;
+
+        /** The value of {@link System#nanoTime()} when the object was last returned. */
+        private long lastUsed;
+
+        Entry(final T object) {
+            this.value = object;
+        }
+    }
+
+    /**
+     * A lease on a pooled object. A new lease is created for every borrow, so that a lease that has been closed
+     * stays closed even if its object is borrowed again.
+     *
+     * @param <T> the type of the borrowed object
+     */
+    private static final class Loan<T> implements Lease<T> {
+
+        /** The pool the object belongs to. */
+        private final Pool<T, ?> pool;
+
+        /** The borrowed entry. */
+        private final Entry<T> entry;
+
+        /** Whether the lease has been closed. */
+        private boolean returned;
+
+        /** Whether the object must be disposed when the lease is closed. */
+        private boolean invalid;
+
+        Loan(final Pool<T, ?> owner, final Entry<T> borrowed) {
+            this.pool = owner;
+            this.entry = borrowed;
+        }
+
+        @Override
+        public T get() {
+            if (returned) {
+                throw new IllegalStateException("lease has already been closed");
+            }
+            return entry.value;
+        }
+
+        @Override
+        public void invalidate() {
+            invalid = true;
+        }
+
+        @Override
+        public void close() {
+            if (returned) {
+                return;
+            }
+            returned = true;
+            if (invalid) {
+                pool.dispose(entry.value);
+            } else {
+                pool.release(entry);
+            }
+        }
+    }
+
+    /**
+     * A builder for {@link Pool}s.
+     *
+     * @param <T> the type of the pooled objects
+     * @param <E> the type of the exception that may be thrown when creating or validating an object
+     * @since 1.3
+     */
+    public static final class Builder<T, E extends Exception> {
+
+        /** The factory that creates new objects. */
+        private final Supplier<? extends T, ? extends E> factory;
+
+        /** The validator, if any. */
+        private @Nullable Predicate<? super T, ? extends E> validation;
+
+        /** The disposer, if any. */
+        private @Nullable Consumer<? super T, ? extends Exception> disposal;
+
+        /** The maximum number of idle objects. */
+        private int idleCapacity = Runtime.getRuntime().availableProcessors() * 2;
+
+        /** The idle timeout, zero if idle objects do not expire. */
+        private Duration idleTimeout = Duration.ZERO;
+
+        private Builder(final Supplier<? extends T, ? extends E> objectFactory) {
+            this.factory = objectFactory;
+        }
+
+        /**
+         * Sets the maximum number of idle objects kept by the pool.
+         * Defaults to twice the number of available processors.
+         *
+         * @param size the maximum number of idle objects
+         * @return this builder
+         * @since 1.3
+         */
+        public Builder<T, E> maxIdle(final int size) {
+            if (size < 0) {
+                throw new IllegalArgumentException("maxIdle must not be negative: " + size);
+            }
+            this.idleCapacity = size;
+            return this;
+        }
+
+        /**
+         * Sets a validator that is called before an idle object is handed out. Objects that fail validation are
+         * disposed. If the validator throws an exception, the object is disposed and the exception is propagated
+         * to the caller of {@link Pool#borrow()}.
+         *
+         * @param predicate the validator
+         * @return this builder
+         * @since 1.3
+         */
+        public Builder<T, E> validator(final Predicate<? super T, ? extends E> predicate) {
+            this.validation = Objects.requireNonNull(predicate);
+            return this;
+        }
+
+        /**
+         * Sets a function that releases the resources of objects discarded by the pool, e.g. {@code Deflater::end}.
+         * Exceptions thrown by the disposer are ignored.
+         *
+         * @param consumer the disposer
+         * @return this builder
+         * @since 1.3
+         */
+        public Builder<T, E> disposer(final Consumer<? super T, ? extends Exception> consumer) {
+            this.disposal = Objects.requireNonNull(consumer);
+            return this;
+        }
+
+        /**
+         * Sets the time after which an idle object is evicted. Expired objects are disposed when they would be
+         * handed out, or by {@link Pool#evictIdle()}. Defaults to {@link Duration#ZERO}, i.e. no expiry.
+         *
+         * @param timeout the idle timeout
+         * @return this builder
+         * @since 1.3
+         */
+        public Builder<T, E> idleTimeout(final Duration timeout) {
+            if (timeout.isNegative()) {
+                throw new IllegalArgumentException("idleTimeout must not be negative: " + timeout);
+            }
+            this.idleTimeout = timeout;
+            return this;
+        }
+
+        /**
+         * Creates the pool.
+         *
+         * @return a new pool
+         * @since 1.3
+         */
+        public Pool<T, E> build() {
+            return new Pool<>(this);
+        }
+    }
+}
@@ -2,6 +2,8 @@ package de.treestack.throwing;
 
 import org.jspecify.annotations.Nullable;
 
+import java.util.BitSet;
+
 /**
  * Represents a predicate (boolean-valued function) of one argument that might throw an exception.
  *
@@ -56,4 +58,56 @@ public interface Predicate<T, E extends Exception> {
     default java.util.function.Predicate<T> unchecked() {
         return unchecked(this);
     }
+
+    /**
+     * Evaluates this predicate on each element of the given list and sets the bit at the same index of {@code out}
+     * to the result. Exceptions thrown by the iterable itself, e.g. a
+     * {@link java.util.ConcurrentModificationException}, are propagated unchanged.
+     *
+     * @param in  the input arguments
+     * @param out the bit set receiving the results
+     * @throws BulkException if this predicate throws a checked exception; bits before the failing index have been
+     *                       set
+     * @since 1.3
+     */
+    default void testAll(final Iterable<? extends T> in, final BitSet out) throws BulkException {
+        int i = 0;
+        for (final T t : in) {
+            final boolean result;
+            try {
+                result = test(t);
+            } catch (final RuntimeException e) {
+                throw e;
+            } catch (final Exception e) {
+                throw new BulkException(i, e);
+            }
+            out.set(i, result);
+            i++;
+        }
+    }
+
+    /**
+     * Evaluates this predicate on each element of the given array and sets the bit at the same index of {@code out}
+     * to the result.
+     *
+     * @param in  the input arguments
+     * @param out the bit set receiving the results
+     * @throws BulkException if this predicate throws a checked exception; bits before the failing index have been
+     *                       set
+     * @see #testAll(Iterable, BitSet)
+     * @since 1.3
+     */
+    default void testAll(final T[] in, final BitSet out) throws BulkException {
+        for (int i = 0; i < in.length; i++) {
+            final boolean result;
+            try {
+                result = test(in[i]);
+            } catch (final RuntimeException e) {
+                throw e;
+            } catch (final Exception e) {
+                throw new BulkException(i, e);
+            }
+            out.set(i, result);
+        }
+    }
 }
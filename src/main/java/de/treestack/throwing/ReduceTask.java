@@ -0,0 +1,122 @@
+package de.treestack.throwing;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * A fork/join task that reduces a range of a list with an accumulator and a combiner that may throw an Exception.
+ *
+ * <p>The first exception is recorded in a state shared by all subtasks of a reduction. Subtasks check this state
+ * before each element, so that siblings stop as soon as one of them fails, and the exception is rethrown unchanged
+ * by {@link #reduce(List, Object, BiFunction, BiFunction)}.
+ *
+ * @param <T> the type of the elements
+ * @param <U> the type of the result
+ */
+final class ReduceTask<T, U> extends RecursiveTask<U> {
+
+    /** The serial version UID. */
+    private static final long serialVersionUID = 1L;
+
+    /** The number of leaf tasks per worker thread, to balance the load if elements are of uneven cost. */
+    private static final int TASKS_PER_THREAD = 8;
+
+    /** The state shared by all subtasks of the reduction. */
+    private final Reduction<T, U> reduction;
+
+    /** The index of the first element, inclusive. */
+    private final int from;
+
+    /** The index of the last element, exclusive. */
+    private final int to;
+
+    private ReduceTask(final Reduction<T, U> shared, final int start, final int end) {
+        this.reduction = shared;
+        this.from = start;
+        this.to = end;
+    }
+
+    /**
+     * Reduces the given list in the common fork/join pool.
+     *
+     * @return the result of the reduction, or the identity value if the list is empty
+     * @throws E if the accumulator or the combiner throws an exception
+     */
+    static <T, U, E extends Exception> U reduce(final List<? extends T> list, final U identity,
+            final BiFunction<U, ? super T, U, ? extends E> accumulator,
+            final BiFunction<U, U, U, ? extends E> combiner) throws E {
+        final List<? extends T> elements = list instanceof RandomAccess ? list : new ArrayList<>(list);
+        final int leaves = ForkJoinPool.getCommonPoolParallelism() * TASKS_PER_THREAD;
+        final int threshold = Math.max(1, elements.size() / leaves);
+        final Reduction<T, U> reduction = new Reduction<>(elements, threshold, identity, accumulator, combiner);
+        final U result = ForkJoinPool.commonPool().invoke(new ReduceTask<>(reduction, 0, elements.size()));
+        reduction.failure.<E>rethrow();
+        return result;
+    }
+
+    @Override
+    protected U compute() {
+        final Reduction<T, U> r = reduction;
+        if (r.failure.hasFailed()) {
+            return r.identity;
+        }
+        try {
+            if (to - from <= r.threshold) {
+                U result = r.identity;
+                for (int i = from; i < to && !r.failure.hasFailed(); i++) {
+                    result = r.accumulator.apply(result, r.list.get(i));
+                }
+                return result;
+            }
+            final int middle = (from + to) >>> 1;
+            final ReduceTask<T, U> right = new ReduceTask<>(r, middle, to);
+            right.fork();
+            final U left = new ReduceTask<>(r, from, middle).compute();
+            final U rightResult = right.join();
+            return r.failure.hasFailed() ? r.identity : r.combiner.apply(left, rightResult);
+        } catch (final Exception | Error e) {
+            r.failure.record(e);
+            return r.identity;
+        }
+    }
+
+    /**
+     * The state shared by all subtasks of a reduction.
+     *
+     * @param <T> the type of the elements
+     * @param <U> the type of the result
+     */
+    private static final class Reduction<T, U> {
+
+        /** The list to reduce. */
+        private final List<? extends T> list;
+
+        /** The maximum number of elements reduced sequentially. */
+        private final int threshold;
+
+        /** The identity value of the reduction. */
+        private final U identity;
+
+        /** Folds an element into a partial result. */
+        private final BiFunction<U, ? super T, U, ?> accumulator;
+
+        /** Combines two partial results. */
+        private final BiFunction<U, U, U, ?> combiner;
+
+        /** The first exception thrown by any subtask. */
+        private final FirstFailure failure = new FirstFailure();
+
+        Reduction(final List<? extends T> elements, final int leafSize, final U identityValue,
+                final BiFunction<U, ? super T, U, ?> accumulatorFunction,
+                final BiFunction<U, U, U, ?> combinerFunction) {
+            this.list = elements;
+            this.threshold = leafSize;
+            this.identity = identityValue;
+            this.accumulator = accumulatorFunction;
+            this.combiner = combinerFunction;
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package de.treestack.throwing;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A token bucket limiting the number of retries, shared by all {@link RetryPolicy retry policies} it is passed to.
+ *
+ * <p>Every retry takes a token from the bucket; first attempts are free. Tokens are refilled at a fixed rate up to
+ * the capacity of the bucket. If a dependency fails completely, the bucket runs dry and callers fail fast instead of
+ * multiplying the load on the dependency with their retries.
+ *
+ * <p>The bucket is lock-free: it only stores the time at which it will be full again, and a token is taken by
+ * advancing that time by one refill period with a CAS.
+ *
+ * @since 1.3
+ */
+public final class RetryBudget {
+
+    /** The time it takes to refill one token, in nanoseconds. */
+    private final long periodNanos;
+
+    /** The time it takes to refill an empty bucket, in nanoseconds. */
+    private final long capacityNanos;
+
+    /** The {@link System#nanoTime()} at which the bucket will be full again. */
+    private final AtomicLong fullAt;
+
+    private RetryBudget(final long period, final long capacity) {
+        this.periodNanos = period;
+        this.capacityNanos = capacity;
+        this.fullAt = new AtomicLong(System.nanoTime());
+    }
+
+    /**
+     * Creates a full bucket.
+     *
+     * @param capacity     the maximum number of tokens, i.e. of retries in a burst
+     * @param refillPeriod the time it takes to refill one token
+     * @return a new retry budget
+     * @throws IllegalArgumentException if the capacity or the refill period is not positive
+     * @since 1.3
+     */
+    public static RetryBudget of(final int capacity, final Duration refillPeriod) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+        final long period = refillPeriod.toNanos();
+        if (period <= 0) {
+            throw new IllegalArgumentException("refillPeriod must be positive: " + refillPeriod);
+        }
+        if (period > Long.MAX_VALUE / capacity) {
+            throw new IllegalArgumentException("refillPeriod is too long: " + refillPeriod);
+        }
+        return new RetryBudget(period, period * capacity);
+    }
+
+    /**
+     * Takes a token from the bucket if one is available.
+     *
+     * @return {@code true} if a token was taken, {@code false} if the bucket is empty
+     * @since 1.3
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            final long now = System.nanoTime();
+            final long current = fullAt.get();
+            final long next = (current - now < 0 ? now : current) + periodNanos;
+            if (next - now > capacityNanos) {
+                return false;
+            }
+            if (fullAt.compareAndSet(current, next)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Returns the number of tokens currently available.
+     *
+     * @return the number of available tokens
+     * @since 1.3
+     */
+    public int available() {
+        final long missing = Math.max(0, fullAt.get() - System.nanoTime());
+        return (int) ((capacityNanos - missing) / periodNanos);
+    }
+}
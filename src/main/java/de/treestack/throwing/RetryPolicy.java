@@ -0,0 +1,336 @@
+package de.treestack.throwing;
+
+import org.jspecify.annotations.Nullable;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Decides whether and when a failed call is retried, see {@link Supplier#retrying(RetryPolicy)} and
+ * {@link Function#retrying(RetryPolicy)}.
+ *
+ * <p>The delay before the {@code n}-th retry is chosen at random between zero and
+ * {@code min(maxDelay, initialDelay * 2^(n-1))} ("full jitter"), so that callers that failed at the same time do
+ * not retry at the same time. By default, only checked exceptions are retried; a RuntimeException usually
+ * indicates a bug that a retry does not fix, so it is rethrown at once unless {@link Builder#retryOn} or
+ * {@link Builder#retryIf} accept it. A call is not retried if the exception does not match the policy, if the maximum
+ * number of attempts has been made, if the next attempt would start after the maximum elapsed time, or if the
+ * {@link RetryBudget} is exhausted. The last exception is then rethrown unchanged. An
+ * {@link InterruptedException} is never retried, and neither is any other exception once the current thread has
+ * been interrupted, so that a retried call can be cancelled.
+ *
+ * <pre>{@code
+ * RetryBudget budget = RetryBudget.of(20, Duration.ofMillis(100));
+ * RetryPolicy policy = RetryPolicy.builder()
+ *         .retryOn(IOException.class)
+ *         .maxAttempts(4)
+ *         .backoff(Duration.ofMillis(50), Duration.ofSeconds(2))
+ *         .maxElapsed(Duration.ofSeconds(5))
+ *         .budget(budget)
+ *         .build();
+ *
+ * Function<URI, byte[], IOException> fetch = client::fetch;
+ * byte[] body = fetch.retrying(policy).apply(uri);
+ * }</pre>
+ *
+ * <p>A policy is thread-safe and may be shared by any number of decorated functions; its counters then cover all
+ * of them.
+ *
+ * @since 1.3
+ */
+public final class RetryPolicy {
+
+    /** The maximum number of attempts per call, including the first one. */
+    private final int maxAttempts;
+
+    /** The upper bound of the delay before the first retry, in nanoseconds. */
+    private final long initialDelayNanos;
+
+    /** The upper bound of the delay before any retry, in nanoseconds. */
+    private final long maxDelayNanos;
+
+    /** The time after which no further attempt is started, or {@code 0} if there is no limit. */
+    private final long maxElapsedNanos;
+
+    /** Decides whether an exception is retried, or {@code null} if all checked exceptions are retried. */
+    private final java.util.function.@Nullable Predicate<? super Exception> condition;
+
+    /** The budget that every retry takes a token from, or {@code null} if retries are not limited. */
+    private final @Nullable RetryBudget budget;
+
+    /** The number of attempts, including first attempts and retries. */
+    private final LongAdder attempts = new LongAdder();
+
+    /** The number of retries. */
+    private final LongAdder retries = new LongAdder();
+
+    /** The number of calls that failed. */
+    private final LongAdder giveUps = new LongAdder();
+
+    private RetryPolicy(final Builder builder) {
+        this.maxAttempts = builder.attemptLimit;
+        this.initialDelayNanos = builder.initial.toNanos();
+        this.maxDelayNanos = builder.max.toNanos();
+        this.maxElapsedNanos = builder.elapsedLimit.toNanos();
+        this.condition = builder.retryCondition;
+        this.budget = builder.retryBudget;
+    }
+
+    /**
+     * Creates a builder for a retry policy.
+     *
+     * @return a new builder
+     * @since 1.3
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns the number of attempts made so far, including first attempts and retries.
+     *
+     * @return the number of attempts
+     * @since 1.3
+     */
+    public long attempts() {
+        return attempts.sum();
+    }
+
+    /**
+     * Returns the number of retries made so far.
+     *
+     * @return the number of retries
+     * @since 1.3
+     */
+    public long retries() {
+        return retries.sum();
+    }
+
+    /**
+     * Returns the number of calls that failed, i.e. whose last exception was rethrown.
+     *
+     * @return the number of failed calls
+     * @since 1.3
+     */
+    public long giveUps() {
+        return giveUps.sum();
+    }
+
+    /**
+     * Calls the supplier until it returns or the policy gives up.
+     * If the supplier throws an {@link InterruptedException}, or the current thread is interrupted before or while
+     * waiting, the interrupt flag is restored and the last exception is rethrown.
+     *
+     * @return the result of the supplier
+     * @throws E the last exception thrown by the supplier
+     */
+    @SuppressWarnings("unchecked")
+    <R, E extends Exception> @Nullable R call(final Supplier<R, E> supplier) throws E {
+        final long start = System.nanoTime();
+        int attempt = 1;
+        while (true) {
+            attempts.increment();
+            try {
+                return supplier.get();
+            } catch (final Exception e) {
+                if (e instanceof InterruptedException) {
+                    Thread.currentThread().interrupt();
+                    giveUps.increment();
+                    throw (E) e;
+                }
+                if (!retry(e, attempt, start)) {
+                    giveUps.increment();
+                    throw (E) e;
+                }
+                attempt++;
+            }
+        }
+    }
+
+    /**
+     * Decides whether to retry after the given failed attempt, and waits for the backoff delay if so.
+     */
+    private boolean retry(final Exception e, final int attempt, final long start) {
+        if (attempt >= maxAttempts || !matches(e)) {
+            return false;
+        }
+        final long delay = delay(attempt);
+        if (maxElapsedNanos > 0 && System.nanoTime() - start + delay > maxElapsedNanos) {
+            return false;
+        }
+        if (Thread.currentThread().isInterrupted() || budget != null && !budget.tryAcquire()) {
+            return false;
+        }
+        try {
+            TimeUnit.NANOSECONDS.sleep(delay);
+        } catch (final InterruptedException interrupted) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+        retries.increment();
+        return true;
+    }
+
+    /**
+     * Returns whether the policy retries the given exception.
+     */
+    private boolean matches(final Exception e) {
+        return condition == null ? !(e instanceof RuntimeException) : condition.test(e);
+    }
+
+    /**
+     * Returns a random delay between zero and the exponential backoff for the given attempt.
+     */
+    private long delay(final int attempt) {
+        final int shift = attempt - 1;
+        final long ceiling = shift >= Long.SIZE - 1 || initialDelayNanos > maxDelayNanos >> shift
+                ? maxDelayNanos
+                : initialDelayNanos << shift;
+        return ceiling > 0 ? ThreadLocalRandom.current().nextLong(ceiling) : 0;
+    }
+
+    /**
+     * A builder for {@link RetryPolicy}s.
+     *
+     * @since 1.3
+     */
+    public static final class Builder {
+
+        /** The default maximum number of attempts. */
+        private static final int DEFAULT_MAX_ATTEMPTS = 3;
+
+        /** The default upper bound of the delay before the first retry. */
+        private static final Duration DEFAULT_INITIAL_DELAY = Duration.ofMillis(100);
+
+        /** The default upper bound of the delay before any retry. */
+        private static final Duration DEFAULT_MAX_DELAY = Duration.ofSeconds(10);
+
+        /** The maximum number of attempts. */
+        private int attemptLimit = DEFAULT_MAX_ATTEMPTS;
+
+        /** The upper bound of the delay before the first retry. */
+        private Duration initial = DEFAULT_INITIAL_DELAY;
+
+        /** The upper bound of the delay before any retry. */
+        private Duration max = DEFAULT_MAX_DELAY;
+
+        /** The time after which no further attempt is started, zero if there is no limit. */
+        private Duration elapsedLimit = Duration.ZERO;
+
+        /** Decides whether an exception is retried, {@code null} to retry all checked exceptions. */
+        private java.util.function.@Nullable Predicate<? super Exception> retryCondition;
+
+        /** The retry budget, if any. */
+        private @Nullable RetryBudget retryBudget;
+
+        private Builder() {
+        }
+
+        /**
+         * Sets the maximum number of attempts per call, including the first one. Defaults to 3.
+         *
+         * @param attempts the maximum number of attempts
+         * @return this builder
+         * @since 1.3
+         */
+        public Builder maxAttempts(final int attempts) {
+            if (attempts < 1) {
+                throw new IllegalArgumentException("maxAttempts must be positive: " + attempts);
+            }
+            this.attemptLimit = attempts;
+            return this;
+        }
+
+        /**
+         * Sets the bounds of the exponential backoff. The delay before the {@code n}-th retry is chosen at random
+         * between zero and {@code min(maxDelay, initialDelay * 2^(n-1))}. Defaults to 100 milliseconds and
+         * 10 seconds.
+         *
+         * @param initialDelay the upper bound of the delay before the first retry
+         * @param maxDelay     the upper bound of the delay before any retry
+         * @return this builder
+         * @since 1.3
+         */
+        public Builder backoff(final Duration initialDelay, final Duration maxDelay) {
+            if (initialDelay.isNegative() || maxDelay.compareTo(initialDelay) < 0) {
+                throw new IllegalArgumentException("invalid backoff: " + initialDelay + ", " + maxDelay);
+            }
+            this.initial = initialDelay;
+            this.max = maxDelay;
+            return this;
+        }
+
+        /**
+         * Sets the time after which no further attempt is started, measured from the first attempt of a call.
+         * A retry is not attempted if its delay would end after this time. Defaults to {@link Duration#ZERO},
+         * i.e. no limit.
+         *
+         * @param elapsed the maximum elapsed time
+         * @return this builder
+         * @since 1.3
+         */
+        public Builder maxElapsed(final Duration elapsed) {
+            if (elapsed.isNegative()) {
+                throw new IllegalArgumentException("maxElapsed must not be negative: " + elapsed);
+            }
+            this.elapsedLimit = elapsed;
+            return this;
+        }
+
+        /**
+         * Retries exceptions of the given type, in addition to those accepted by previous calls of
+         * {@code retryOn} and {@link #retryIf}. If neither is called, all checked exceptions are retried, but no
+         * RuntimeException.
+         *
+         * @param type the type of exceptions to retry
+         * @return this builder
+         * @since 1.3
+         */
+        public Builder retryOn(final Class<? extends Exception> type) {
+            Objects.requireNonNull(type);
+            return retryIf(type::isInstance);
+        }
+
+        /**
+         * Retries exceptions accepted by the given predicate, in addition to those accepted by previous calls of
+         * {@link #retryOn} and {@code retryIf}. If neither is called, all checked exceptions are retried, but no
+         * RuntimeException.
+         *
+         * @param predicate decides whether an exception is retried
+         * @return this builder
+         * @since 1.3
+         */
+        public Builder retryIf(final java.util.function.Predicate<? super Exception> predicate) {
+            Objects.requireNonNull(predicate);
+            final java.util.function.Predicate<? super Exception> previous = retryCondition;
+            this.retryCondition = previous == null ? predicate : e -> previous.test(e) || predicate.test(e);
+            return this;
+        }
+
+        /**
+         * Sets the budget that every retry takes a token from. The same budget may be passed to several policies.
+         * Retries are not limited by default.
+         *
+         * @param tokens the retry budget
+         * @return this builder
+         * @since 1.3
+         */
+        public Builder budget(final RetryBudget tokens) {
+            this.retryBudget = Objects.requireNonNull(tokens);
+            return this;
+        }
+
+        /**
+         * Creates the retry policy.
+         *
+         * @return a new retry policy
+         * @since 1.3
+         */
+        public RetryPolicy build() {
+            return new RetryPolicy(this);
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package de.treestack.throwing;
+
+import org.jspecify.annotations.Nullable;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A bounded, lock-free queue for many producers and a single consumer.
+ *
+ * <p>Every slot carries a sequence number that tells producers and the consumer whose turn it is: a producer may
+ * write slot {@code i} at position {@code p} if its sequence is {@code p}, the consumer may read it if its sequence
+ * is {@code p + 1}. Producers claim positions with a CAS on the tail, the consumer owns the head. The capacity must
+ * be at least two, otherwise a readable slot would look writable to the next lap.
+ *
+ * @param <T> the type of the elements
+ */
+final class RingBuffer<T> {
+
+    /** The elements. */
+    private final AtomicReferenceArray<@Nullable T> slots;
+
+    /** The sequence number of each slot. */
+    private final AtomicLongArray sequences;
+
+    /** Maps a position to a slot index. */
+    private final int mask;
+
+    /** The next position to be claimed by a producer. */
+    private final AtomicLong tail = new AtomicLong();
+
+    /** The next position to be read by the consumer. Only written by the consumer. */
+    private volatile long head;
+
+    RingBuffer(final int capacity) {
+        if (capacity < 2 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("capacity must be a power of two of at least 2: " + capacity);
+        }
+        this.slots = new AtomicReferenceArray<>(capacity);
+        this.sequences = new AtomicLongArray(capacity);
+        this.mask = capacity - 1;
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * Inserts an element if there is room.
+     *
+     * @return {@code true} if the element was inserted, {@code false} if the buffer is full
+     */
+    boolean offer(final T element) {
+        while (true) {
+            final long position = tail.get();
+            final int index = (int) position & mask;
+            final long difference = sequences.get(index) - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    slots.lazySet(index, element);
+                    sequences.set(index, position + 1);
+                    return true;
+                }
+            } else if (difference < 0) {
+                return false;
+            }
+        }
+    }
+
+    /**
+     * Moves up to {@code max} elements into the given list. Must only be called by the consumer.
+     *
+     * @return the number of elements moved
+     */
+    int drainTo(final List<? super T> target, final int max) {
+        final int capacity = mask + 1;
+        long position = head;
+        int count = 0;
+        while (count < max) {
+            final int index = (int) position & mask;
+            if (sequences.get(index) != position + 1) {
+                break;
+            }
+            target.add(slots.get(index));
+            slots.lazySet(index, null);
+            sequences.set(index, position + capacity);
+            position++;
+            count++;
+        }
+        head = position;
+        return count;
+    }
+
+    /**
+     * Returns the number of elements that have been inserted so far.
+     */
+    long published() {
+        return tail.get();
+    }
+
+    /**
+     * Returns whether the buffer is empty, as seen by the consumer.
+     */
+    boolean isEmpty() {
+        return sequences.get((int) head & mask) != head + 1;
+    }
+}
@@ -0,0 +1,199 @@
+package de.treestack.throwing;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.stream.IntStream;
+
+/**
+ * Sorts lists and arrays by a key computed by a function that may throw an Exception.
+ *
+ * <p>A comparator created with {@link Comparator#comparing(java.util.function.Function)} calls the key function for
+ * both elements of every comparison, i.e. {@code O(n log n)} times. The sort methods of this class compute the key of
+ * each element exactly once, sort the elements together with their keys and then store the elements back
+ * ("decorate-sort-undecorate"). This pays off if the key function is expensive, e.g. parses a date:
+ *
+ * <pre>{@code
+ * Sorting.sort(invoices, invoice -> LocalDate.parse(invoice.date())); // throws DateTimeParseException
+ * }</pre>
+ *
+ * <p>All sorts are stable. The keys must not be {@code null}.
+ *
+ * @since 1.3
+ */
+public final class Sorting {
+
+    private Sorting() {
+    }
+
+    /**
+     * Creates a comparator that compares elements by the key computed by the given function. The key is computed for
+     * both elements of every comparison; to sort a large collection, use {@link #sort(List, Function)} instead.
+     * If the function throws an exception, the comparator throws a RuntimeException with the original exception as
+     * its cause.
+     *
+     * @param key the function computing the key
+     * @param <T> the type of the elements
+     * @param <K> the type of the keys
+     * @param <E> the type of the exception thrown by the function
+     * @return a comparator comparing by the key
+     * @since 1.3
+     */
+    public static <T, K extends Comparable<? super K>, E extends Exception> Comparator<T> comparing(
+            final Function<? super T, ? extends K, E> key) {
+        return (a, b) -> {
+            try {
+                return key.apply(a).compareTo(key.apply(b));
+            } catch (final Exception e) {
+                throw new RuntimeException(e.getMessage(), e);
+            }
+        };
+    }
+
+    /**
+     * Sorts the list by the key computed by the given function, computing the key of each element exactly once.
+     * If the function throws an exception, the list is not modified.
+     *
+     * @param list the list to sort
+     * @param key  the function computing the key
+     * @param <T>  the type of the elements
+     * @param <K>  the type of the keys
+     * @param <E>  the type of the exception thrown by the function
+     * @throws E if the function throws an exception
+     * @since 1.3
+     */
+    public static <T, K extends Comparable<? super K>, E extends Exception> void sort(
+            final List<T> list, final Function<? super T, ? extends K, E> key) throws E {
+        sort(list, key, false);
+    }
+
+    /**
+     * Sorts the array by the key computed by the given function, computing the key of each element exactly once.
+     * If the function throws an exception, the array is not modified.
+     *
+     * @param array the array to sort
+     * @param key   the function computing the key
+     * @param <T>   the type of the elements
+     * @param <K>   the type of the keys
+     * @param <E>   the type of the exception thrown by the function
+     * @throws E if the function throws an exception
+     * @since 1.3
+     */
+    public static <T, K extends Comparable<? super K>, E extends Exception> void sort(
+            final T[] array, final Function<? super T, ? extends K, E> key) throws E {
+        sort(array, key, false);
+    }
+
+    /**
+     * Sorts the list by the key computed by the given function, like {@link #sort(List, Function)}, but computes
+     * the keys in parallel and sorts with {@link Arrays#parallelSort(Object[], Comparator)}. The function must
+     * therefore be thread-safe. As soon as it throws an exception, no further keys are computed, and the first
+     * exception is rethrown unchanged.
+     *
+     * @param list the list to sort
+     * @param key  the function computing the key
+     * @param <T>  the type of the elements
+     * @param <K>  the type of the keys
+     * @param <E>  the type of the exception thrown by the function
+     * @throws E if the function throws an exception
+     * @since 1.3
+     */
+    public static <T, K extends Comparable<? super K>, E extends Exception> void parallelSort(
+            final List<T> list, final Function<? super T, ? extends K, E> key) throws E {
+        sort(list, key, true);
+    }
+
+    /**
+     * Sorts the array by the key computed by the given function, like {@link #sort(Object[], Function)}, but
+     * computes the keys in parallel and sorts with {@link Arrays#parallelSort(Object[], Comparator)}.
+     *
+     * @param array the array to sort
+     * @param key   the function computing the key
+     * @param <T>   the type of the elements
+     * @param <K>   the type of the keys
+     * @param <E>   the type of the exception thrown by the function
+     * @throws E if the function throws an exception
+     * @see #parallelSort(List, Function)
+     * @since 1.3
+     */
+    public static <T, K extends Comparable<? super K>, E extends Exception> void parallelSort(
+            final T[] array, final Function<? super T, ? extends K, E> key) throws E {
+        sort(array, key, true);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T, K extends Comparable<? super K>, E extends Exception> void sort(
+            final List<T> list, final Function<? super T, ? extends K, E> key, final boolean parallel) throws E {
+        final T[] array = (T[]) list.toArray();
+        sort(array, key, parallel);
+        final ListIterator<T> iterator = list.listIterator();
+        for (final T t : array) {
+            iterator.next();
+            iterator.set(t);
+        }
+    }
+
+    private static <T, K extends Comparable<? super K>, E extends Exception> void sort(
+            final T[] array, final Function<? super T, ? extends K, E> key, final boolean parallel) throws E {
+        final Keyed<T, K>[] keyed = parallel ? decorateParallel(array, key) : decorate(array, key);
+        final Comparator<Keyed<T, K>> comparator = (a, b) -> a.key.compareTo(b.key);
+        if (parallel) {
+            Arrays.parallelSort(keyed, comparator);
+        } else {
+            Arrays.sort(keyed, comparator);
+        }
+        for (int i = 0; i < keyed.length; i++) {
+            array[i] = keyed[i].value;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T, K, E extends Exception> Keyed<T, K>[] decorate(
+            final T[] array, final Function<? super T, ? extends K, E> key) throws E {
+        final Keyed<T, K>[] keyed = new Keyed[array.length];
+        for (int i = 0; i < array.length; i++) {
+            keyed[i] = new Keyed<>(key.apply(array[i]), array[i]);
+        }
+        return keyed;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T, K, E extends Exception> Keyed<T, K>[] decorateParallel(
+            final T[] array, final Function<? super T, ? extends K, E> key) throws E {
+        final Keyed<T, K>[] keyed = new Keyed[array.length];
+        final FirstFailure failure = new FirstFailure();
+        IntStream.range(0, array.length).parallel().forEach(i -> {
+            if (failure.hasFailed()) {
+                return;
+            }
+            try {
+                keyed[i] = new Keyed<>(key.apply(array[i]), array[i]);
+            } catch (final Exception | Error e) {
+                failure.record(e);
+            }
+        });
+        failure.<E>rethrow();
+        return keyed;
+    }
+
+    /**
+     * An element together with its key.
+     *
+     * @param <T> the type of the element
+     * @param <K> the type of the key
+     */
+    private static final class Keyed<T, K> {
+
+        /** The key of the element. */
+        private final K key;
+
+        /** The element. */
+        private final T value;
+
+        Keyed(final K elementKey, final T element) {
+            this.key = elementKey;
+            this.value = element;
+        }
+    }
+}
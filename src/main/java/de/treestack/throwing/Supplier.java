@@ -2,6 +2,8 @@ package de.treestack.throwing;
 
 import org.jspecify.annotations.Nullable;
 
+import java.lang.reflect.Constructor;
+import java.util.Objects;
 import java.util.Optional;
 
 /**
@@ -93,5 +95,59 @@ public interface Supplier<R, E extends Exception> {
     default java.util.function.Supplier<R> unchecked() {
         return unchecked(this);
     }
-}
 
+    /**
+     * Creates a {@link PerThread} that hands out one lazily created instance per thread, created by the given
+     * factory. On virtual threads, instances are shared through a small pool instead.
+     *
+     * @param factory the factory that creates new instances, must not return {@code null}
+     * @param <R>     the type of the instances
+     * @param <E>     the type of the exception thrown by the factory
+     * @return a new {@code PerThread}
+     * @see PerThread
+     * @since 1.3
+     */
+    static <R, E extends Exception> PerThread<R, E> perThread(final Supplier<? extends R, ? extends E> factory) {
+        return PerThread.of(factory);
+    }
+
+    /**
+     * Creates a {@link PerThread} that hands out one lazily created instance per thread, created by this function.
+     *
+     * @return a new {@code PerThread}
+     * @see #perThread(Supplier)
+     * @since 1.3
+     */
+    default PerThread<R, E> perThread() {
+        return perThread(this);
+    }
+
+    /**
+     * Creates a function that invokes the given constructor, which must not have parameters.
+     *
+     * <p>Exceptions thrown by the constructor are propagated unchanged.
+     *
+     * @param constructor the constructor to invoke
+     * @param <R>         the type of the result of the function
+     * @return a function that invokes the constructor
+     * @throws IllegalArgumentException if the constructor has parameters or is not accessible
+     * @see Function#ofMethod(java.lang.reflect.Method)
+     * @since 1.3
+     */
+    static <R> Supplier<R, Exception> ofConstructor(final Constructor<? extends R> constructor) {
+        return MethodAdapters.supplier(constructor);
+    }
+
+    /**
+     * Returns a supplier that calls this supplier again if it throws an exception, as decided by the given policy.
+     * If the policy gives up, the last exception is rethrown unchanged.
+     *
+     * @param policy the retry policy
+     * @return a supplier that retries this supplier
+     * @since 1.3
+     */
+    default Supplier<R, E> retrying(final RetryPolicy policy) {
+        Objects.requireNonNull(policy);
+        return () -> policy.call(this);
+    }
+}
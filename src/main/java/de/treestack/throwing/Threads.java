@@ -0,0 +1,103 @@
+package de.treestack.throwing;
+
+import org.jspecify.annotations.Nullable;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Access to thread features of newer Java versions, resolved reflectively so the library still runs on Java 8.
+ */
+final class Threads {
+
+    /** {@code Thread.isVirtual()}, or {@code null} if virtual threads are not supported. */
+    private static final @Nullable MethodHandle IS_VIRTUAL =
+            findVirtual("isVirtual", MethodType.methodType(boolean.class));
+
+    /** {@code Thread.startVirtualThread(Runnable)}, or {@code null} if virtual threads are not supported. */
+    private static final @Nullable MethodHandle START_VIRTUAL_THREAD =
+            findStatic("startVirtualThread", MethodType.methodType(Thread.class, Runnable.class));
+
+    private Threads() {
+    }
+
+    /**
+     * Returns whether the given thread is a virtual thread.
+     *
+     * @param thread the thread
+     * @return {@code true} if the thread is a virtual thread, {@code false} otherwise or if virtual threads are not
+     * supported by the runtime
+     */
+    static boolean isVirtual(final Thread thread) {
+        if (IS_VIRTUAL == null) {
+            return false;
+        }
+        try {
+            return (boolean) IS_VIRTUAL.invokeExact(thread);
+        } catch (final Throwable e) {
+            return false;
+        }
+    }
+
+    /**
+     * Returns an executor that runs each task in a new virtual thread, or, if virtual threads are not supported by
+     * the runtime, in a shared pool of daemon threads that grows on demand.
+     *
+     * @return the executor for forked tasks
+     */
+    static Executor forkExecutor() {
+        final MethodHandle start = START_VIRTUAL_THREAD;
+        if (start == null) {
+            return DaemonPool.EXECUTOR;
+        }
+        return command -> {
+            try {
+                // invokeExact needs the call site typed as returning Thread, which only an assignment provides
+                final Thread ignored = (Thread) start.invokeExact(command);
+            } catch (final Throwable e) {
+                throw new RejectedExecutionException(e);
+            }
+        };
+    }
+
+    private static @Nullable MethodHandle findStatic(final String name, final MethodType type) {
+        try {
+            return MethodHandles.publicLookup().findStatic(Thread.class, name, type);
+        } catch (final ReflectiveOperationException e) {
+            return null;
+        }
+    }
+
+    private static @Nullable MethodHandle findVirtual(final String name, final MethodType type) {
+        try {
+            return MethodHandles.publicLookup().findVirtual(Thread.class, name, type);
+        } catch (final ReflectiveOperationException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Holds the fallback executor, so that it is only created if virtual threads are not supported.
+     */
+    private static final class DaemonPool {
+
+        /** The number of threads created so far, used for their names. */
+        private static final AtomicInteger COUNT = new AtomicInteger();
+
+        /** A pool of daemon threads that grows on demand. */
+        private static final ExecutorService EXECUTOR = Executors.newCachedThreadPool(task -> {
+            final Thread thread = new Thread(task, "throwing-fork-" + COUNT.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        private DaemonPool() {
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package de.treestack.throwing;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AdaptivePredicateTest {
+
+    @Test
+    void allOf_shouldPassIfAllClausesPass() throws Exception {
+        AdaptivePredicate<Integer, Exception> p = AdaptivePredicate.<Integer, Exception>allOf()
+                .add(i -> i > 0)
+                .add(i -> i < 10)
+                .build();
+        assertThat(p.test(5)).isTrue();
+        assertThat(p.test(15)).isFalse();
+        assertThat(p.test(-5)).isFalse();
+    }
+
+    @Test
+    void anyOf_shouldPassIfAnyClausePasses() throws Exception {
+        AdaptivePredicate<Integer, Exception> p = AdaptivePredicate.<Integer, Exception>anyOf()
+                .add(i -> i < 0)
+                .add(i -> i > 10)
+                .build();
+        assertThat(p.test(5)).isFalse();
+        assertThat(p.test(15)).isTrue();
+        assertThat(p.test(-5)).isTrue();
+    }
+
+    @Test
+    void test_shouldMoveCheapSelectiveClauseFirst() throws Exception {
+        AdaptivePredicate<Integer, InterruptedException> p = AdaptivePredicate.<Integer, InterruptedException>allOf()
+                .add(i -> {
+                    Thread.sleep(1);
+                    return true;
+                })
+                .add(i -> false)
+                .sampleRate(1)
+                .reorderInterval(10)
+                .build();
+        assertThat(p.order()).containsExactly(0, 1);
+        for (int i = 0; i < 10; i++) {
+            assertThat(p.test(i)).isFalse();
+        }
+        assertThat(p.order()).containsExactly(1, 0);
+    }
+
+    @Test
+    void test_shouldPropagateException() {
+        AdaptivePredicate<Integer, Exception> p = AdaptivePredicate.<Integer, Exception>allOf()
+                .add(i -> {
+                    throw new Exception("custom exception message");
+                })
+                .build();
+        assertThatThrownBy(() -> p.test(1))
+                .isExactlyInstanceOf(Exception.class)
+                .hasMessage("custom exception message");
+    }
+
+    @Test
+    void test_shouldApplyFailurePolicy() throws Exception {
+        Predicate<Integer, Exception> failing = i -> {
+            throw new Exception("custom exception message");
+        };
+        AdaptivePredicate<Integer, Exception> pass = AdaptivePredicate.<Integer, Exception>allOf()
+                .add(failing)
+                .onFailure(AdaptivePredicate.OnFailure.PASS)
+                .build();
+        AdaptivePredicate<Integer, Exception> fail = AdaptivePredicate.<Integer, Exception>anyOf()
+                .add(failing)
+                .onFailure(AdaptivePredicate.OnFailure.FAIL)
+                .build();
+        assertThat(pass.test(1)).isTrue();
+        assertThat(fail.test(1)).isFalse();
+    }
+
+    @Test
+    void test_shouldPropagateRuntimeExceptionDespiteFailurePolicy() {
+        AdaptivePredicate<String, Exception> p = AdaptivePredicate.<String, Exception>allOf()
+                .add(String::isEmpty)
+                .onFailure(AdaptivePredicate.OnFailure.PASS)
+                .build();
+        assertThatThrownBy(() -> p.test(null)).isInstanceOf(NullPointerException.class);
+    }
+
+    @Nested
+    class Bi {
+
+        @Test
+        void allOf_shouldPassIfAllClausesPass() throws Exception {
+            AdaptiveBiPredicate<Integer, Integer, Exception> p =
+                    AdaptiveBiPredicate.<Integer, Integer, Exception>allOf()
+                            .add((i, j) -> i < j)
+                            .add((i, j) -> j < 10)
+                            .build();
+            assertThat(p.test(1, 5)).isTrue();
+            assertThat(p.test(1, 15)).isFalse();
+        }
+
+        @Test
+        void test_shouldMoveCheapSelectiveClauseFirst() throws Exception {
+            AdaptiveBiPredicate<Integer, Integer, InterruptedException> p =
+                    AdaptiveBiPredicate.<Integer, Integer, InterruptedException>anyOf()
+                            .add((i, j) -> {
+                                Thread.sleep(1);
+                                return false;
+                            })
+                            .add((i, j) -> true)
+                            .sampleRate(1)
+                            .reorderInterval(10)
+                            .build();
+            for (int i = 0; i < 10; i++) {
+                assertThat(p.test(i, i)).isTrue();
+            }
+            assertThat(p.order()).containsExactly(1, 0);
+        }
+
+        @Test
+        void test_shouldPropagateException() {
+            AdaptiveBiPredicate<Integer, Integer, Exception> p =
+                    AdaptiveBiPredicate.<Integer, Integer, Exception>anyOf()
+                            .add((i, j) -> {
+                                throw new Exception("custom exception message");
+                            })
+                            .build();
+            assertThatThrownBy(() -> p.test(1, 2))
+                    .isExactlyInstanceOf(Exception.class)
+                    .hasMessage("custom exception message");
+        }
+    }
+}
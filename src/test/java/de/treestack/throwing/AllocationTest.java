@@ -0,0 +1,175 @@
+package de.treestack.throwing;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.TestFactory;
+
+import java.lang.management.ManagementFactory;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Guards the success paths of the wrappers against accidental allocations, e.g. by capturing lambdas or boxing.
+ * Each call is repeated until it has been compiled, then the bytes allocated by the current thread are measured
+ * over several rounds and the smallest average per call is compared with the budget of the wrapper.
+ */
+class AllocationTest {
+
+    private static final int CALLS = 100_000;
+    private static final int WARMUP_ROUNDS = 20;
+    private static final int MEASURED_ROUNDS = 5;
+
+    private static final Object VALUE = new Object();
+    private static final String TEXT = "foo";
+
+    private static com.sun.management.ThreadMXBean threads;
+    private static double optionalSize;
+    private static double leaseSize;
+
+    static volatile Object sink;
+
+    @BeforeAll
+    static void setUp() {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        assumeTrue(bean instanceof com.sun.management.ThreadMXBean, "ThreadMXBean does not measure allocations");
+        threads = (com.sun.management.ThreadMXBean) bean;
+        assumeTrue(threads.isThreadAllocatedMemorySupported(), "allocation measurement is not supported");
+        threads.setThreadAllocatedMemoryEnabled(true);
+        optionalSize = bytesPerCall(() -> sink = Optional.of(VALUE));
+        assumeTrue(optionalSize > 0, "allocation measurement is not accurate");
+        leaseSize = bytesPerCall(() -> sink = new LeaseShape());
+    }
+
+    @TestFactory
+    Stream<DynamicTest> unchecked_shouldNotAllocate() throws Exception {
+        java.util.function.Function<Object, Object> function = ((Function<Object, Object, Exception>) t -> t)
+                .unchecked();
+        java.util.function.BiFunction<Object, Object, Object> biFunction =
+                ((BiFunction<Object, Object, Object, Exception>) (t, u) -> t).unchecked();
+        java.util.function.Function<Object, Object> unaryOperator =
+                ((UnaryOperator<Object, Exception>) t -> t).unchecked();
+        java.util.function.BiFunction<Object, Object, Object> binaryOperator =
+                ((BinaryOperator<Object, Exception>) (t, u) -> t).unchecked();
+        java.util.function.Supplier<Object> supplier = ((Supplier<Object, Exception>) () -> VALUE).unchecked();
+        java.util.function.BooleanSupplier booleanSupplier = ((BooleanSupplier<Exception>) () -> true).unchecked();
+        java.util.function.Predicate<Object> predicate = ((Predicate<Object, Exception>) t -> true).unchecked();
+        java.util.function.BiPredicate<Object, Object> biPredicate =
+                ((BiPredicate<Object, Object, Exception>) (t, u) -> true).unchecked();
+        java.util.function.Consumer<Object> consumer = ((Consumer<Object, Exception>) t -> sink = t).unchecked();
+        java.util.function.BiConsumer<Object, Object> biConsumer =
+                ((BiConsumer<Object, Object, Exception>) (t, u) -> sink = t).unchecked();
+        java.util.Iterator<Object> iterator = new Constant().unchecked();
+        java.util.function.Function<String, String> method =
+                Function.<String, String>ofMethod(String.class.getMethod("trim")).unchecked();
+        return Stream.of(
+                byteBudget("Function.unchecked()", 0, () -> sink = function.apply(VALUE)),
+                byteBudget("BiFunction.unchecked()", 0, () -> sink = biFunction.apply(VALUE, VALUE)),
+                byteBudget("UnaryOperator.unchecked()", 0, () -> sink = unaryOperator.apply(VALUE)),
+                byteBudget("BinaryOperator.unchecked()", 0, () -> sink = binaryOperator.apply(VALUE, VALUE)),
+                byteBudget("Supplier.unchecked()", 0, () -> sink = supplier.get()),
+                byteBudget("BooleanSupplier.unchecked()", 0,
+                        () -> sink = booleanSupplier.getAsBoolean() ? VALUE : null),
+                byteBudget("Predicate.unchecked()", 0, () -> sink = predicate.test(VALUE) ? VALUE : null),
+                byteBudget("BiPredicate.unchecked()", 0, () -> sink = biPredicate.test(VALUE, VALUE) ? VALUE : null),
+                byteBudget("Consumer.unchecked()", 0, () -> consumer.accept(VALUE)),
+                byteBudget("BiConsumer.unchecked()", 0, () -> biConsumer.accept(VALUE, VALUE)),
+                byteBudget("Iterator.unchecked()", 0, () -> sink = iterator.hasNext() ? iterator.next() : null),
+                byteBudget("Function.ofMethod().unchecked()", 0, () -> sink = method.apply(TEXT)));
+    }
+
+    @TestFactory
+    Stream<DynamicTest> lift_shouldAllocateAtMostOneOptional() {
+        java.util.function.Function<Object, Optional<Object>> function =
+                ((Function<Object, Object, Exception>) t -> t).lift();
+        java.util.function.BiFunction<Object, Object, Optional<Object>> biFunction =
+                ((BiFunction<Object, Object, Object, Exception>) (t, u) -> t).lift();
+        java.util.function.Supplier<Optional<Object>> supplier = ((Supplier<Object, Exception>) () -> VALUE).lift();
+        return Stream.of(
+                optionalBudget("Function.lift()", 1, () -> sink = function.apply(VALUE)),
+                optionalBudget("BiFunction.lift()", 1, () -> sink = biFunction.apply(VALUE, VALUE)),
+                optionalBudget("Supplier.lift()", 1, () -> sink = supplier.get()));
+    }
+
+    @TestFactory
+    Stream<DynamicTest> reuse_shouldAllocateAtMostOneLease() throws Exception {
+        Pool<Object, RuntimeException> pool = Pool.<Object, RuntimeException>builder(Object::new).build();
+        pool.borrow().close();
+        PerThread<Object, RuntimeException> perThread = PerThread.of(Object::new);
+        Function<Object, Object, RuntimeException> identity = t -> t;
+        return Stream.of(
+                byteBudget("Pool.borrow()", leaseSize, () -> {
+                    try (Pool.Lease<Object> lease = pool.borrow()) {
+                        sink = lease.get();
+                    }
+                }),
+                byteBudget("PerThread.apply()", 0, () -> sink = perThread.apply(identity)));
+    }
+
+    /**
+     * Creates a test that fails if a call allocates more than the given number of {@link Optional}s on average.
+     */
+    private static DynamicTest optionalBudget(String wrapper, int optionals, Runnable call) {
+        return DynamicTest.dynamicTest(wrapper, () -> assertBudget(wrapper, optionals * optionalSize, call));
+    }
+
+    /**
+     * Creates a test that fails if a call allocates more than the given number of bytes on average.
+     */
+    private static DynamicTest byteBudget(String wrapper, double bytes, Runnable call) {
+        return DynamicTest.dynamicTest(wrapper, () -> assertBudget(wrapper, bytes, call));
+    }
+
+    private static void assertBudget(String wrapper, double bytes, Runnable call) {
+        double allowed = bytes + 0.5;
+        assertThat(bytesPerCall(call))
+                    .as("bytes allocated per call of %s", wrapper)
+                    .isLessThanOrEqualTo(allowed);
+    }
+
+    private static double bytesPerCall(Runnable call) {
+        long thread = Thread.currentThread().getId();
+        for (int round = 0; round < WARMUP_ROUNDS; round++) {
+            repeat(call);
+        }
+        long min = Long.MAX_VALUE;
+        for (int round = 0; round < MEASURED_ROUNDS; round++) {
+            long before = threads.getThreadAllocatedBytes(thread);
+            repeat(call);
+            min = Math.min(min, threads.getThreadAllocatedBytes(thread) - before);
+        }
+        return (double) min / CALLS;
+    }
+
+    private static void repeat(Runnable call) {
+        for (int i = 0; i < CALLS; i++) {
+            call.run();
+        }
+    }
+
+    /**
+     * Has the same fields as the lease returned by {@link Pool#borrow()}, to measure its size.
+     */
+    @SuppressWarnings("unused")
+    private static final class LeaseShape {
+        private Object pool;
+        private Object entry;
+        private boolean returned;
+        private boolean invalid;
+    }
+
+    private static final class Constant implements Iterator<Object, Exception> {
+
+        @Override
+        public boolean hasNext() {
+            return true;
+        }
+
+        @Override
+        public Object next() {
+            return VALUE;
+        }
+    }
+}
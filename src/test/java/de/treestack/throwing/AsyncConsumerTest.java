@@ -0,0 +1,154 @@
+package de.treestack.throwing;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AsyncConsumerTest {
+
+    @Test
+    void accept_shouldDeliverAllElementsInBatches() throws Exception {
+        Queue<Integer> received = new ConcurrentLinkedQueue<>();
+        Queue<Integer> batchSizes = new ConcurrentLinkedQueue<>();
+        try (AsyncConsumer<Integer> consumer = AsyncConsumer.<Integer>ofBatch(batch -> {
+            batchSizes.add(batch.size());
+            received.addAll(batch);
+        }).capacity(64).maxBatchSize(16).build()) {
+            for (int i = 0; i < 1_000; i++) {
+                consumer.accept(i);
+            }
+            consumer.flush();
+            assertThat(received).hasSize(1_000);
+            assertThat(new ArrayList<>(received)).isSorted();
+            assertThat(batchSizes).allMatch(size -> size <= 16);
+        }
+    }
+
+    @Test
+    void accept_shouldBeThreadSafe() throws Exception {
+        Queue<Integer> received = new ConcurrentLinkedQueue<>();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try (AsyncConsumer<Integer> consumer = AsyncConsumer.<Integer>of(received::add).capacity(16).build()) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 10_000; i++) {
+                        consumer.accept(i);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            consumer.flush();
+            assertThat(received).hasSize(40_000);
+        } finally {
+            executor.shutdown();
+            executor.awaitTermination(1, TimeUnit.MINUTES);
+        }
+    }
+
+    @Test
+    void accept_shouldPassExceptionsToErrorHandler() throws Exception {
+        Queue<Exception> errors = new ConcurrentLinkedQueue<>();
+        Queue<Integer> received = new ConcurrentLinkedQueue<>();
+        try (AsyncConsumer<Integer> consumer = AsyncConsumer.<Integer>of(i -> {
+            if (i == 1) {
+                throw new Exception("custom exception message");
+            }
+            received.add(i);
+        }).errorHandler(errors::add).build()) {
+            consumer.accept(1);
+            consumer.accept(2);
+            consumer.flush();
+        }
+        assertThat(errors).singleElement().extracting(Exception::getMessage).isEqualTo("custom exception message");
+        assertThat(received).containsExactly(2);
+    }
+
+    @Test
+    @Timeout(10)
+    void accept_shouldSurviveThrowingErrorHandler() throws Exception {
+        Queue<Integer> received = new ConcurrentLinkedQueue<>();
+        try (AsyncConsumer<Integer> consumer = AsyncConsumer.<Integer>of(i -> {
+            if (i == 1) {
+                throw new Exception("custom exception message");
+            } else if (i == 2) {
+                throw new AssertionError("custom error message");
+            }
+            received.add(i);
+        }).errorHandler(e -> {
+            throw new IllegalStateException("handler failed");
+        }).capacity(2).maxBatchSize(1).build()) {
+            for (int i = 0; i < 100; i++) {
+                consumer.accept(i);
+            }
+            consumer.flush();
+        }
+        assertThat(received).hasSize(98);
+    }
+
+    @Test
+    void accept_shouldDropWhenFull() throws Exception {
+        CountDownLatch blocked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        try (AsyncConsumer<Integer> consumer = AsyncConsumer.<Integer>of(i -> {
+            blocked.countDown();
+            release.await();
+        }).capacity(2).maxBatchSize(1).onOverflow(AsyncConsumer.Overflow.DROP).build()) {
+            consumer.accept(0);
+            blocked.await();
+            for (int i = 1; i <= 5; i++) {
+                consumer.accept(i);
+            }
+            assertThat(consumer.dropped()).isEqualTo(3);
+            release.countDown();
+        }
+    }
+
+    @Test
+    void accept_shouldRunOnCallerWhenFull() throws Exception {
+        CountDownLatch blocked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Queue<Thread> threads = new ConcurrentLinkedQueue<>();
+        try (AsyncConsumer<Integer> consumer = AsyncConsumer.<Integer>of(i -> {
+            threads.add(Thread.currentThread());
+            if (i == 0) {
+                blocked.countDown();
+                release.await();
+            }
+        }).capacity(2).maxBatchSize(1).onOverflow(AsyncConsumer.Overflow.CALLER_RUNS).build()) {
+            consumer.accept(0);
+            blocked.await();
+            consumer.accept(1);
+            consumer.accept(2);
+            consumer.accept(3);
+            assertThat(threads).contains(Thread.currentThread());
+            release.countDown();
+        }
+    }
+
+    @Test
+    void close_shouldDeliverRemainingElements() {
+        Queue<Integer> received = new ConcurrentLinkedQueue<>();
+        AsyncConsumer<Integer> consumer = AsyncConsumer.<Integer>of(received::add).build();
+        for (int i = 0; i < 100; i++) {
+            consumer.accept(i);
+        }
+        consumer.close();
+        assertThat(received).hasSize(100);
+        assertThatThrownBy(() -> consumer.accept(1)).isInstanceOf(IllegalStateException.class);
+    }
+}
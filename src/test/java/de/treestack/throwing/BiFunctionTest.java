@@ -1,8 +1,18 @@
 package de.treestack.throwing;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
 
+import java.io.IOException;
+import java.util.Arrays;
 import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
@@ -41,4 +51,142 @@ class BiFunctionTest {
                 .isInstanceOf(RuntimeException.class)
                 .hasMessage("custom exception message");
     }
-}
\ No newline at end of file
+
+    @Test
+    void parallelReduce_shouldAccumulateAndCombine() {
+        BiFunction<Integer, String, Integer, RuntimeException> accumulator = (sum, s) -> sum + s.length();
+        BinaryOperator<Integer, RuntimeException> combiner = Integer::sum;
+        Integer result = BiFunction.parallelReduce(Arrays.asList("foo", "bar", "baz"), 0, accumulator, combiner);
+        assertThat(result).isEqualTo(9);
+    }
+
+    @Test
+    void parallelReduce_shouldRethrowOriginalException() {
+        BiFunction<Integer, String, Integer, Exception> accumulator = (sum, s) -> {
+            throw new Exception("custom exception message");
+        };
+        BinaryOperator<Integer, Exception> combiner = Integer::sum;
+        assertThatThrownBy(() -> BiFunction.parallelReduce(Arrays.asList("foo", "bar"), 0, accumulator, combiner))
+                .isExactlyInstanceOf(Exception.class)
+                .hasMessage("custom exception message");
+    }
+
+    @Test
+    void ofMethod_shouldInvokeInstanceMethod() throws Exception {
+        BiFunction<String, Integer, Character, Exception> f =
+                BiFunction.ofMethod(String.class.getMethod("charAt", int.class));
+        assertThat(f.apply("foo", 1)).isEqualTo('o');
+    }
+
+    @Test
+    void ofMethod_shouldInvokeStaticMethod() throws Exception {
+        BiFunction<Integer, Integer, Integer, Exception> f =
+                BiFunction.ofMethod(Math.class.getMethod("max", int.class, int.class));
+        assertThat(f.apply(21, 42)).isEqualTo(42);
+    }
+
+    @Test
+    void ofMethod_shouldPropagateOriginalException() throws Exception {
+        BiFunction<String, Integer, Character, Exception> f =
+                BiFunction.ofMethod(String.class.getMethod("charAt", int.class));
+        assertThatThrownBy(() -> f.apply("foo", 3))
+                .isInstanceOf(StringIndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void zipConcurrent_shouldCombineResults() throws Exception {
+        String result = BiFunction.zipConcurrent(() -> "foo", () -> 42, (s, i) -> s + i);
+        assertThat(result).isEqualTo("foo42");
+    }
+
+    @Test
+    void zipConcurrent_shouldRunSuppliersConcurrently() throws Exception {
+        CountDownLatch both = new CountDownLatch(2);
+        Supplier<Boolean, InterruptedException> meet = () -> {
+            both.countDown();
+            return both.await(10, TimeUnit.SECONDS);
+        };
+        assertThat(BiFunction.zipConcurrent(meet, meet, Boolean::logicalAnd)).isTrue();
+    }
+
+    @Test
+    void zipConcurrent_shouldRethrowOriginalExceptionAndCancelOtherSupplier() {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch cancelled = new CountDownLatch(1);
+        Supplier<String, Exception> failing = () -> {
+            started.await();
+            throw new IOException("custom exception message");
+        };
+        Supplier<String, RuntimeException> blocking = () -> {
+            started.countDown();
+            try {
+                new CountDownLatch(1).await();
+            } catch (InterruptedException e) {
+                cancelled.countDown();
+            }
+            return "foo";
+        };
+        assertThatThrownBy(() -> BiFunction.zipConcurrent(failing, blocking, (a, b) -> a + b))
+                .isExactlyInstanceOf(IOException.class)
+                .hasMessage("custom exception message");
+        assertThat(cancelled.getCount()).isZero();
+    }
+
+    @Test
+    void zipConcurrent_shouldWaitForCancelledSupplierIgnoringInterrupts() {
+        CountDownLatch started = new CountDownLatch(1);
+        AtomicBoolean returned = new AtomicBoolean();
+        Supplier<String, Exception> failing = () -> {
+            started.await();
+            throw new IOException("custom exception message");
+        };
+        Supplier<String, RuntimeException> ignoring = () -> {
+            started.countDown();
+            long end = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(200);
+            while (System.nanoTime() < end) {
+                Thread.yield();
+            }
+            returned.set(true);
+            return "foo";
+        };
+        assertThatThrownBy(() -> BiFunction.zipConcurrent(failing, ignoring, (a, b) -> a + b))
+                .isExactlyInstanceOf(IOException.class);
+        assertThat(returned.get()).isTrue();
+    }
+
+    @Test
+    @Timeout(10)
+    void zipConcurrent_shouldNotStartSupplierAfterOtherFailed() {
+        AtomicInteger submitted = new AtomicInteger();
+        Executor firstOnly = task -> {
+            if (submitted.getAndIncrement() == 0) {
+                new Thread(task).start();
+            }
+        };
+        AtomicBoolean called = new AtomicBoolean();
+        Supplier<String, IOException> failing = () -> {
+            throw new IOException("custom exception message");
+        };
+        Supplier<String, RuntimeException> never = () -> {
+            called.set(true);
+            return "foo";
+        };
+        assertThatThrownBy(() -> BiFunction.zipConcurrent(firstOnly, failing, never, (a, b) -> a + b))
+                .isExactlyInstanceOf(IOException.class);
+        assertThat(called.get()).isFalse();
+    }
+
+    @Test
+    void zipConcurrent_shouldUseGivenExecutor() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(2, task -> new Thread(task, "zip"));
+        try {
+            String result = BiFunction.zipConcurrent(executor,
+                    () -> Thread.currentThread().getName(),
+                    () -> Thread.currentThread().getName(),
+                    (a, b) -> a + b);
+            assertThat(result).isEqualTo("zipzip");
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -2,10 +2,15 @@ package de.treestack.throwing;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
+import static org.assertj.core.api.AssertionsForClassTypes.fail;
 
 public class BinaryOperatorTest {
     @Test
@@ -40,4 +45,44 @@ public class BinaryOperatorTest {
                 .isInstanceOf(RuntimeException.class)
                 .hasMessage("custom exception message");
     }
+
+    @Test
+    void parallelReduce_shouldKeepEncounterOrder() {
+        List<String> list = new ArrayList<>();
+        StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < 10_000; i++) {
+            list.add(Integer.toString(i % 10));
+            expected.append(i % 10);
+        }
+        BinaryOperator<String, RuntimeException> f = String::concat;
+        assertThat(BinaryOperator.parallelReduce(list, "", f)).isEqualTo(expected.toString());
+    }
+
+    @Test
+    void parallelReduce_shouldReturnIdentityForEmptyArray() {
+        BinaryOperator<Integer, RuntimeException> f = Integer::sum;
+        assertThat(BinaryOperator.parallelReduce(new Integer[0], 0, f)).isEqualTo(0);
+    }
+
+    @Test
+    void parallelReduce_shouldStopAfterFirstException() {
+        AtomicInteger calls = new AtomicInteger();
+        BinaryOperator<Integer, Exception> f = (i, j) -> {
+            calls.incrementAndGet();
+            if (j == 0) {
+                throw new Exception("custom exception message");
+            }
+            Thread.sleep(1);
+            return i + j;
+        };
+        List<Integer> list = new ArrayList<>(Collections.nCopies(1_000, 1));
+        list.set(0, 0);
+        try {
+            BinaryOperator.parallelReduce(list, 0, f);
+            fail("exception expected");
+        } catch (Exception e) {
+            assertThat(e).isExactlyInstanceOf(Exception.class).hasMessage("custom exception message");
+        }
+        assertThat(calls.get()).isLessThan(500);
+    }
 }
@@ -0,0 +1,79 @@
+package de.treestack.throwing;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ConcurrentMapsTest {
+
+    @Test
+    void computeIfAbsent_shouldComputeOnce() throws Exception {
+        ConcurrentMap<String, Integer> map = new ConcurrentHashMap<>();
+        AtomicInteger calls = new AtomicInteger();
+        Function<String, Integer, IOException> length = s -> {
+            calls.incrementAndGet();
+            return s.length();
+        };
+        assertThat(ConcurrentMaps.computeIfAbsent(map, "foo", length)).isEqualTo(3);
+        assertThat(ConcurrentMaps.computeIfAbsent(map, "foo", length)).isEqualTo(3);
+        assertThat(calls).hasValue(1);
+    }
+
+    @Test
+    void computeIfAbsent_shouldRethrowOriginalExceptionWithoutMapping() {
+        ConcurrentMap<String, Integer> map = new ConcurrentHashMap<>();
+        Function<String, Integer, IOException> failing = s -> {
+            throw new IOException("custom exception message");
+        };
+        assertThatThrownBy(() -> ConcurrentMaps.computeIfAbsent(map, "foo", failing))
+                .isExactlyInstanceOf(IOException.class)
+                .hasMessage("custom exception message");
+        assertThat(map).isEmpty();
+    }
+
+    @Test
+    void computeIfAbsent_shouldSupportOtherMaps() {
+        ConcurrentMap<String, Integer> map = new ConcurrentSkipListMap<>();
+        Function<String, Integer, IOException> failing = s -> {
+            throw new IOException("custom exception message");
+        };
+        assertThatThrownBy(() -> ConcurrentMaps.computeIfAbsent(map, "foo", failing))
+                .isExactlyInstanceOf(IOException.class);
+        assertThat(map).isEmpty();
+    }
+
+    @Test
+    void parallelForEach_shouldVisitAllMappings() throws Exception {
+        ConcurrentHashMap<Integer, Integer> map = new ConcurrentHashMap<>();
+        for (int i = 0; i < 10_000; i++) {
+            map.put(i, i);
+        }
+        LongAdder sum = new LongAdder();
+        ConcurrentMaps.<Integer, Integer, IOException>parallelForEach(map, 1, (k, v) -> sum.add(v));
+        assertThat(sum.sum()).isEqualTo(49_995_000L);
+    }
+
+    @Test
+    void parallelForEach_shouldRethrowOriginalException() {
+        ConcurrentHashMap<Integer, Integer> map = new ConcurrentHashMap<>();
+        for (int i = 0; i < 10_000; i++) {
+            map.put(i, i);
+        }
+        BiConsumer<Integer, Integer, IOException> failing = (k, v) -> {
+            if (k == 5_000) {
+                throw new IOException("custom exception message");
+            }
+        };
+        assertThatThrownBy(() -> ConcurrentMaps.parallelForEach(map, 1, failing))
+                .isExactlyInstanceOf(IOException.class)
+                .hasMessage("custom exception message");
+    }
+}
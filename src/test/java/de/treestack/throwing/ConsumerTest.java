@@ -2,6 +2,12 @@ package de.treestack.throwing;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.List;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 
 class ConsumerTest {
@@ -21,4 +27,42 @@ class ConsumerTest {
                 .isInstanceOf(RuntimeException.class)
                 .hasMessage("custom exception message");
     }
-}
\ No newline at end of file
+
+    @Test
+    void acceptAll_shouldAcceptEachElement() throws Exception {
+        List<String> received = new ArrayList<>();
+        Consumer<String, Exception> f = received::add;
+        f.acceptAll(Arrays.asList("a", "b"));
+        f.acceptAll(new String[] {"c"});
+        assertThat(received).isEqualTo(Arrays.asList("a", "b", "c"));
+    }
+
+    @Test
+    void acceptAll_shouldReportFailingIndex() {
+        Consumer<String, Exception> f = s -> {
+            if (s.equals("c")) {
+                throw new Exception("custom exception message");
+            }
+        };
+        assertThatThrownBy(() -> f.acceptAll(Arrays.asList("a", "b", "c")))
+                .isInstanceOfSatisfying(BulkException.class, e -> assertThat(e.getIndex()).isEqualTo(2))
+                .hasCauseExactlyInstanceOf(Exception.class);
+    }
+
+    @Test
+    void acceptAll_shouldNotWrapConcurrentModificationException() {
+        List<String> list = new ArrayList<>(Arrays.asList("a", "b"));
+        Consumer<String, Exception> f = list::add;
+        assertThatThrownBy(() -> f.acceptAll(list))
+                .isExactlyInstanceOf(ConcurrentModificationException.class);
+    }
+
+    @Test
+    void acceptAll_shouldNotWrapRuntimeException() {
+        Consumer<String, Exception> f = s -> {
+            throw new IllegalStateException("custom exception message");
+        };
+        assertThatThrownBy(() -> f.acceptAll(new String[] {"a"}))
+                .isExactlyInstanceOf(IllegalStateException.class);
+    }
+}
@@ -2,7 +2,12 @@ package de.treestack.throwing;
 
 import org.junit.jupiter.api.Test;
 
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Arrays;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
@@ -42,4 +47,119 @@ public class FunctionTest {
                 .hasMessage("custom exception message");
 
     }
-}
\ No newline at end of file
+
+    @Test
+    void ofMethod_shouldInvokeInstanceMethod() throws Exception {
+        Function<String, Integer, Exception> f = Function.ofMethod(String.class.getMethod("length"));
+        assertThat(f.apply("foo")).isEqualTo(3);
+    }
+
+    @Test
+    void ofMethod_shouldInvokeStaticMethod() throws Exception {
+        Function<String, Integer, Exception> f = Function.ofMethod(Integer.class.getMethod("parseInt", String.class));
+        assertThat(f.apply("42")).isEqualTo(42);
+    }
+
+    @Test
+    void ofMethod_shouldPropagateOriginalException() throws Exception {
+        Function<String, String, Exception> f = Function.ofMethod(Methods.class.getMethod("fail", String.class));
+        assertThatThrownBy(() -> f.apply("custom exception message"))
+                .isExactlyInstanceOf(IOException.class)
+                .hasMessage("custom exception message");
+    }
+
+    @Test
+    void ofMethod_shouldInvokeAccessiblePrivateMethod() throws Exception {
+        Method method = Methods.class.getDeclaredMethod("reverse", String.class);
+        method.setAccessible(true);
+        Function<String, String, Exception> f = Function.ofMethod(method);
+        assertThat(f.apply("foo")).isEqualTo("oof");
+    }
+
+    @Test
+    void ofMethod_shouldRejectWrongParameterCount() {
+        assertThatThrownBy(() -> Function.ofMethod(String.class.getMethod("charAt", int.class)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    public static class Methods {
+
+        public static String fail(String message) throws IOException {
+            throw new IOException(message);
+        }
+
+        private static String reverse(String s) {
+            return new StringBuilder(s).reverse().toString();
+        }
+    }
+
+    @Test
+    void applyAll_shouldFillOutputArray() throws Exception {
+        Function<String, Integer, Exception> f = String::length;
+        Integer[] out = new Integer[3];
+        f.applyAll(new String[] {"a", "bb", "ccc"}, out);
+        assertThat(out).isEqualTo(new Integer[] {1, 2, 3});
+    }
+
+    @Test
+    void applyAll_shouldReportFailingIndex() {
+        Function<String, Integer, Exception> f = s -> {
+            if (s.isEmpty()) {
+                throw new Exception("custom exception message");
+            }
+            return s.length();
+        };
+        Integer[] out = new Integer[3];
+        assertThatThrownBy(() -> f.applyAll(new String[] {"a", "", "ccc"}, out))
+                .isInstanceOfSatisfying(BulkException.class, e -> assertThat(e.getIndex()).isEqualTo(1))
+                .cause()
+                .isExactlyInstanceOf(Exception.class)
+                .hasMessage("custom exception message");
+        assertThat(out).isEqualTo(new Integer[] {1, null, null});
+    }
+
+    @Test
+    void applyAll_shouldNotWrapRuntimeException() {
+        Function<String, Integer, Exception> f = s -> {
+            throw new IllegalStateException("custom exception message");
+        };
+        assertThatThrownBy(() -> f.applyAll(Arrays.asList("a", "bb")))
+                .isExactlyInstanceOf(IllegalStateException.class)
+                .hasMessage("custom exception message");
+    }
+
+    @Test
+    void applyAll_shouldRejectShortOutputArray() {
+        Function<String, Integer, Exception> f = String::length;
+        assertThatThrownBy(() -> f.applyAll(new String[] {"a", "bb"}, new Integer[1]))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void applyAll_shouldMapList() throws Exception {
+        Function<String, Integer, Exception> f = String::length;
+        assertThat(f.applyAll(Arrays.asList("a", "bb", "ccc"))).isEqualTo(Arrays.asList(1, 2, 3));
+    }
+
+    @Test
+    void retrying_shouldApplyAgainAfterFailure() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        Function<Integer, Integer, Exception> f = i -> {
+            if (calls.incrementAndGet() == 1) {
+                throw new Exception("custom exception message");
+            }
+            return i + 1;
+        };
+        RetryPolicy policy = RetryPolicy.builder().backoff(Duration.ZERO, Duration.ZERO).build();
+        assertThat(f.retrying(policy).apply(42)).isEqualTo(43);
+        assertThat(calls.get()).isEqualTo(2);
+    }
+
+    @Test
+    void applyAll_shouldNotWrapArrayStoreException() {
+        Function<String, Object, Exception> f = s -> s;
+        Object[] out = new Integer[1];
+        assertThatThrownBy(() -> f.applyAll(new String[] {"a"}, out))
+                .isExactlyInstanceOf(ArrayStoreException.class);
+    }
+}
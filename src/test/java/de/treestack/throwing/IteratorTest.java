@@ -0,0 +1,96 @@
+package de.treestack.throwing;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class IteratorTest {
+
+    @Test
+    void generate_shouldStopAtNull() throws IOException {
+        BufferedReader reader = new BufferedReader(new StringReader("foo\nbar"));
+        Iterator<String, IOException> it = Iterator.generate(reader::readLine);
+        assertThat(it.hasNext()).isTrue();
+        assertThat(it.next()).isEqualTo("foo");
+        assertThat(it.next()).isEqualTo("bar");
+        assertThat(it.hasNext()).isFalse();
+        assertThatThrownBy(it::next).isInstanceOf(NoSuchElementException.class);
+    }
+
+    @Test
+    void generate_shouldNotCallGeneratorAfterEnd() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        Iterator<String, Exception> it = Iterator.generate(() -> {
+            calls.incrementAndGet();
+            return null;
+        });
+        assertThat(it.hasNext()).isFalse();
+        assertThat(it.hasNext()).isFalse();
+        assertThat(calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    void stream_shouldBeLazy() {
+        AtomicInteger calls = new AtomicInteger();
+        Iterator<Integer, Exception> it = Iterator.generate(calls::incrementAndGet);
+        List<Integer> result = it.stream().limit(3).collect(Collectors.toList());
+        assertThat(result).containsExactly(1, 2, 3);
+        assertThat(calls.get()).isEqualTo(3);
+    }
+
+    @Test
+    void stream_shouldThrowRuntimeException() {
+        Iterator<String, IOException> it = Iterator.generate(() -> {
+            throw new IOException("custom exception message");
+        });
+        assertThatThrownBy(() -> it.stream().count())
+                .isInstanceOf(RuntimeException.class)
+                .hasMessage("custom exception message")
+                .hasCauseInstanceOf(IOException.class);
+    }
+
+    @Test
+    void spliterator_shouldReportSize() {
+        java.util.Iterator<String> source = Arrays.asList("foo", "bar").iterator();
+        Iterator<String, Exception> it = new Iterator<String, Exception>() {
+            @Override
+            public boolean hasNext() {
+                return source.hasNext();
+            }
+
+            @Override
+            public String next() {
+                return source.next();
+            }
+        };
+        assertThat(it.spliterator(2).getExactSizeIfKnown()).isEqualTo(2);
+    }
+
+    @Test
+    void unchecked_shouldThrowRuntimeException() {
+        Iterator<String, Exception> it = new Iterator<String, Exception>() {
+            @Override
+            public boolean hasNext() throws Exception {
+                throw new Exception("custom exception message");
+            }
+
+            @Override
+            public String next() {
+                return "foo";
+            }
+        };
+        assertThatThrownBy(() -> it.unchecked().hasNext())
+                .isInstanceOf(RuntimeException.class)
+                .hasMessage("custom exception message");
+    }
+}
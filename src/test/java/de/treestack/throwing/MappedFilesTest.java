@@ -0,0 +1,75 @@
+package de.treestack.throwing;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MappedFilesTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void forEachRecord_shouldVisitAllRecords() throws Exception {
+        Path file = Files.write(dir.resolve("records.txt"), "foo\r\nbar\n\nbaz".getBytes(StandardCharsets.UTF_8));
+        Queue<String> records = new ConcurrentLinkedQueue<>();
+        MappedFiles.forEachRecord(file, record -> records.add(record.toString()));
+        assertThat(records).containsExactly("foo", "bar", "", "baz");
+    }
+
+    @Test
+    void forEachRecord_shouldSupportCustomDelimiter() throws Exception {
+        Path file = Files.write(dir.resolve("records.txt"), "foo;bär;".getBytes(StandardCharsets.UTF_8));
+        Queue<String> records = new ConcurrentLinkedQueue<>();
+        MappedFiles.forEachRecord(file, (byte) ';', StandardCharsets.UTF_8, record -> records.add(record.toString()));
+        assertThat(records).containsExactly("foo", "bär");
+    }
+
+    @Test
+    void forEachRecord_shouldHandleEmptyFile() throws Exception {
+        Path file = Files.write(dir.resolve("empty.txt"), new byte[0]);
+        AtomicInteger count = new AtomicInteger();
+        MappedFiles.forEachRecord(file, record -> count.incrementAndGet());
+        assertThat(count.get()).isZero();
+    }
+
+    @Test
+    void mapRecords_shouldKeepOrderAcrossChunks() throws Exception {
+        List<String> lines = new ArrayList<>();
+        for (int i = 0; i < 500_000; i++) {
+            lines.add(Integer.toString(i));
+        }
+        Path file = Files.write(dir.resolve("numbers.txt"), lines, StandardCharsets.UTF_8);
+        assertThat(Files.size(file)).isGreaterThan(3L << 20);
+
+        List<Integer> result = MappedFiles.mapRecords(file, record -> Integer.parseInt(record.toString()));
+
+        assertThat(result).hasSize(lines.size());
+        for (int i = 0; i < result.size(); i++) {
+            assertThat(result.get(i)).isEqualTo(i);
+        }
+    }
+
+    @Test
+    void forEachRecord_shouldRethrowOriginalException() throws IOException {
+        Path file = Files.write(dir.resolve("records.txt"), Arrays.asList("foo", "bar"), StandardCharsets.UTF_8);
+        assertThatThrownBy(() -> MappedFiles.forEachRecord(file, record -> {
+            throw new Exception("custom exception message");
+        }))
+                .isExactlyInstanceOf(Exception.class)
+                .hasMessage("custom exception message");
+    }
+}
@@ -0,0 +1,99 @@
+package de.treestack.throwing;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class PerThreadTest {
+
+    @Test
+    void apply_shouldReuseInstanceOnSameThread() throws Exception {
+        AtomicInteger created = new AtomicInteger();
+        Supplier<Object, Exception> factory = () -> {
+            created.incrementAndGet();
+            return new Object();
+        };
+        PerThread<Object, Exception> perThread = factory.perThread();
+        Object first = perThread.apply(o -> o);
+        Object second = perThread.apply(o -> o);
+        assertThat(second).isSameAs(first);
+        assertThat(created.get()).isEqualTo(1);
+    }
+
+    @Test
+    void apply_shouldCreateInstancePerThread() throws Exception {
+        PerThread<Object, RuntimeException> perThread = Supplier.perThread(Object::new);
+        Object first = perThread.apply(o -> o);
+        AtomicReference<Object> second = new AtomicReference<>();
+        Thread thread = new Thread(() -> second.set(perThread.apply(o -> o)));
+        thread.start();
+        thread.join();
+        assertThat(second.get()).isNotNull().isNotSameAs(first);
+    }
+
+    @Test
+    void accept_shouldPassInstance() throws Exception {
+        PerThread<StringBuilder, RuntimeException> perThread = Supplier.perThread(StringBuilder::new);
+        perThread.accept(sb -> sb.append("foo"));
+        assertThat(perThread.apply(StringBuilder::toString)).isEqualTo("foo");
+    }
+
+    @Test
+    void apply_shouldThrowFactoryException() {
+        PerThread<Object, IOException> perThread = Supplier.perThread(() -> {
+            throw new IOException("custom exception message");
+        });
+        assertThatThrownBy(() -> perThread.apply(o -> o))
+                .isExactlyInstanceOf(IOException.class)
+                .hasMessage("custom exception message");
+    }
+
+    @Test
+    void apply_shouldThrowFunctionException() {
+        PerThread<Object, RuntimeException> perThread = Supplier.perThread(Object::new);
+        assertThatThrownBy(() -> perThread.apply(o -> {
+            throw new Exception("custom exception message");
+        }))
+                .isExactlyInstanceOf(Exception.class)
+                .hasMessage("custom exception message");
+    }
+
+    @Test
+    void apply_shouldPoolInstancesOnVirtualThreads() throws Exception {
+        Method startVirtualThread;
+        try {
+            startVirtualThread = Thread.class.getMethod("startVirtualThread", Runnable.class);
+        } catch (NoSuchMethodException e) {
+            assumeTrue(false, "virtual threads are not supported");
+            return;
+        }
+        AtomicInteger created = new AtomicInteger();
+        AtomicInteger virtual = new AtomicInteger();
+        PerThread<Object, RuntimeException> perThread = Supplier.perThread(() -> {
+            created.incrementAndGet();
+            return new Object();
+        });
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            threads.add((Thread) startVirtualThread.invoke(null, (Runnable) () -> perThread.accept(o -> {
+                if (Threads.isVirtual(Thread.currentThread())) {
+                    virtual.incrementAndGet();
+                }
+            })));
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertThat(virtual.get()).isEqualTo(10_000);
+        assertThat(created.get()).isLessThan(100);
+    }
+}
@@ -0,0 +1,161 @@
+package de.treestack.throwing;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PoolTest {
+
+    @Test
+    void borrow_shouldReuseReturnedObject() throws Exception {
+        Pool<Object, Exception> pool = Pool.<Object, Exception>builder(Object::new).build();
+        Object first;
+        try (Pool.Lease<Object> lease = pool.borrow()) {
+            first = lease.get();
+        }
+        try (Pool.Lease<Object> lease = pool.borrow()) {
+            assertThat(lease.get()).isSameAs(first);
+        }
+        assertThat(pool.idleCount()).isEqualTo(1);
+    }
+
+    @Test
+    void close_shouldHaveNoEffectAfterObjectWasBorrowedAgain() throws Exception {
+        Pool<Object, Exception> pool = Pool.<Object, Exception>builder(Object::new).build();
+        Pool.Lease<Object> first = pool.borrow();
+        first.close();
+        try (Pool.Lease<Object> second = pool.borrow()) {
+            first.close();
+            assertThat(pool.idleCount()).isZero();
+            assertThatThrownBy(first::get).isInstanceOf(IllegalStateException.class);
+            try (Pool.Lease<Object> third = pool.borrow()) {
+                assertThat(third.get()).isNotSameAs(second.get());
+            }
+        }
+    }
+
+    @Test
+    void borrow_shouldThrowFactoryException() {
+        Pool<Object, Exception> pool = Pool.builder(() -> {
+            throw new Exception("custom exception message");
+        }).build();
+        assertThatThrownBy(pool::borrow)
+                .isExactlyInstanceOf(Exception.class)
+                .hasMessage("custom exception message");
+    }
+
+    @Test
+    void borrow_shouldDiscardInvalidObject() throws Exception {
+        AtomicInteger disposed = new AtomicInteger();
+        Pool<Object, Exception> pool = Pool.<Object, Exception>builder(Object::new)
+                .validator(o -> false)
+                .disposer(o -> disposed.incrementAndGet())
+                .build();
+        Object first;
+        try (Pool.Lease<Object> lease = pool.borrow()) {
+            first = lease.get();
+        }
+        try (Pool.Lease<Object> lease = pool.borrow()) {
+            assertThat(lease.get()).isNotSameAs(first);
+        }
+        assertThat(disposed.get()).isEqualTo(1);
+    }
+
+    @Test
+    void borrow_shouldThrowValidatorException() throws Exception {
+        Pool<Object, Exception> pool = Pool.<Object, Exception>builder(Object::new)
+                .validator(o -> {
+                    throw new Exception("custom exception message");
+                })
+                .build();
+        pool.borrow().close();
+        assertThatThrownBy(pool::borrow).hasMessage("custom exception message");
+        assertThat(pool.idleCount()).isZero();
+    }
+
+    @Test
+    void close_shouldDisposeWhenFull() throws Exception {
+        AtomicInteger disposed = new AtomicInteger();
+        Pool<Object, Exception> pool = Pool.<Object, Exception>builder(Object::new)
+                .maxIdle(1)
+                .disposer(o -> disposed.incrementAndGet())
+                .build();
+        Pool.Lease<Object> first = pool.borrow();
+        Pool.Lease<Object> second = pool.borrow();
+        first.close();
+        second.close();
+        second.close();
+        assertThat(pool.idleCount()).isEqualTo(1);
+        assertThat(disposed.get()).isEqualTo(1);
+    }
+
+    @Test
+    void close_shouldDisposeInvalidatedObject() throws Exception {
+        AtomicInteger disposed = new AtomicInteger();
+        Pool<Object, Exception> pool = Pool.<Object, Exception>builder(Object::new)
+                .disposer(o -> disposed.incrementAndGet())
+                .build();
+        try (Pool.Lease<Object> lease = pool.borrow()) {
+            lease.invalidate();
+        }
+        assertThat(pool.idleCount()).isZero();
+        assertThat(disposed.get()).isEqualTo(1);
+    }
+
+    @Test
+    void evictIdle_shouldDisposeExpiredObjects() throws Exception {
+        AtomicInteger disposed = new AtomicInteger();
+        Pool<Object, Exception> pool = Pool.<Object, Exception>builder(Object::new)
+                .idleTimeout(Duration.ofNanos(1))
+                .disposer(o -> disposed.incrementAndGet())
+                .build();
+        pool.borrow().close();
+        Thread.sleep(1);
+        pool.evictIdle();
+        assertThat(pool.idleCount()).isZero();
+        assertThat(disposed.get()).isEqualTo(1);
+    }
+
+    @Test
+    void borrow_shouldBeThreadSafe() throws Exception {
+        int threads = 8;
+        AtomicInteger created = new AtomicInteger();
+        Pool<AtomicInteger, RuntimeException> pool = Pool.builder(() -> {
+            created.incrementAndGet();
+            return new AtomicInteger();
+        }).maxIdle(threads).build();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 10_000; i++) {
+                        try (Pool.Lease<AtomicInteger> lease = pool.borrow()) {
+                            assertThat(lease.get().incrementAndGet()).isEqualTo(1);
+                            lease.get().decrementAndGet();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+            executor.awaitTermination(1, TimeUnit.MINUTES);
+        }
+        assertThat(created.get()).isLessThan(threads * 10);
+        assertThat(pool.idleCount()).isLessThanOrEqualTo(threads);
+    }
+}
@@ -2,6 +2,9 @@ package de.treestack.throwing;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
+import java.util.BitSet;
+
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 
@@ -23,4 +26,36 @@ public class PredicateTest {
                 .isInstanceOf(RuntimeException.class)
                 .hasMessage("custom exception message");
     }
-}
\ No newline at end of file
+
+    @Test
+    void testAll_shouldSetMatchingBits() throws Exception {
+        Predicate<String, Exception> f = String::isEmpty;
+        BitSet out = new BitSet();
+        f.testAll(Arrays.asList("", "a", ""), out);
+        assertThat(out.toString()).isEqualTo("{0, 2}");
+    }
+
+    @Test
+    void testAll_shouldReportFailingIndex() {
+        Predicate<String, Exception> f = s -> {
+            if (s.equals("b")) {
+                throw new Exception("custom exception message");
+            }
+            return true;
+        };
+        BitSet out = new BitSet();
+        assertThatThrownBy(() -> f.testAll(new String[] {"a", "b", "c"}, out))
+                .isInstanceOfSatisfying(BulkException.class, e -> assertThat(e.getIndex()).isEqualTo(1))
+                .hasCauseExactlyInstanceOf(Exception.class);
+        assertThat(out.toString()).isEqualTo("{0}");
+    }
+
+    @Test
+    void testAll_shouldNotWrapRuntimeException() {
+        Predicate<String, Exception> f = s -> {
+            throw new IllegalStateException("custom exception message");
+        };
+        assertThatThrownBy(() -> f.testAll(new String[] {"a"}, new BitSet()))
+                .isExactlyInstanceOf(IllegalStateException.class);
+    }
+}
@@ -0,0 +1,222 @@
+package de.treestack.throwing;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RetryPolicyTest {
+
+    private static RetryPolicy.Builder fast() {
+        return RetryPolicy.builder().backoff(Duration.ofMillis(1), Duration.ofMillis(2));
+    }
+
+    @Test
+    void retrying_shouldReturnResultAfterFailures() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        Supplier<String, IOException> flaky = () -> {
+            if (calls.incrementAndGet() < 3) {
+                throw new IOException("custom exception message");
+            }
+            return "foo";
+        };
+        RetryPolicy policy = fast().maxAttempts(3).build();
+        assertThat(flaky.retrying(policy).get()).isEqualTo("foo");
+        assertThat(policy.attempts()).isEqualTo(3);
+        assertThat(policy.retries()).isEqualTo(2);
+        assertThat(policy.giveUps()).isZero();
+    }
+
+    @Test
+    void retrying_shouldRethrowLastExceptionAfterMaxAttempts() {
+        AtomicInteger calls = new AtomicInteger();
+        Supplier<String, IOException> failing = () -> {
+            throw new IOException("attempt " + calls.incrementAndGet());
+        };
+        RetryPolicy policy = fast().maxAttempts(4).build();
+        assertThatThrownBy(() -> failing.retrying(policy).get())
+                .isExactlyInstanceOf(IOException.class)
+                .hasMessage("attempt 4");
+        assertThat(policy.attempts()).isEqualTo(4);
+        assertThat(policy.giveUps()).isEqualTo(1);
+    }
+
+    @Test
+    void retrying_shouldOnlyRetryMatchingExceptions() {
+        AtomicInteger calls = new AtomicInteger();
+        Supplier<String, Exception> failing = () -> {
+            calls.incrementAndGet();
+            throw new IllegalStateException("custom exception message");
+        };
+        RetryPolicy policy = fast().retryOn(IOException.class).build();
+        assertThatThrownBy(() -> failing.retrying(policy).get())
+                .isExactlyInstanceOf(IllegalStateException.class);
+        assertThat(calls).hasValue(1);
+    }
+
+    @Test
+    void retrying_shouldNotRetryRuntimeExceptionsByDefault() {
+        AtomicInteger calls = new AtomicInteger();
+        Supplier<String, Exception> failing = () -> {
+            calls.incrementAndGet();
+            throw new IllegalArgumentException("custom exception message");
+        };
+        RetryPolicy policy = fast().build();
+        assertThatThrownBy(() -> failing.retrying(policy).get())
+                .isExactlyInstanceOf(IllegalArgumentException.class);
+        assertThat(calls).hasValue(1);
+        assertThat(policy.retries()).isZero();
+    }
+
+    @Test
+    void retrying_shouldRetryRuntimeExceptionsOfGivenType() {
+        AtomicInteger calls = new AtomicInteger();
+        Supplier<String, Exception> failing = () -> {
+            calls.incrementAndGet();
+            throw new IllegalStateException("custom exception message");
+        };
+        RetryPolicy policy = fast().retryOn(IllegalStateException.class).build();
+        assertThatThrownBy(() -> failing.retrying(policy).get())
+                .isExactlyInstanceOf(IllegalStateException.class);
+        assertThat(calls).hasValue(3);
+    }
+
+    @Test
+    void retrying_shouldRetryExceptionsAcceptedByPredicate() {
+        AtomicInteger calls = new AtomicInteger();
+        Supplier<String, Exception> failing = () -> {
+            calls.incrementAndGet();
+            throw new Exception("transient");
+        };
+        RetryPolicy policy = fast()
+                .retryOn(IOException.class)
+                .retryIf(e -> "transient".equals(e.getMessage()))
+                .build();
+        assertThatThrownBy(() -> failing.retrying(policy).get()).hasMessage("transient");
+        assertThat(calls).hasValue(3);
+    }
+
+    @Test
+    void retrying_shouldStopAtMaxElapsedTime() {
+        AtomicInteger calls = new AtomicInteger();
+        Supplier<String, IOException> failing = () -> {
+            calls.incrementAndGet();
+            throw new IOException("custom exception message");
+        };
+        RetryPolicy policy = RetryPolicy.builder()
+                .maxAttempts(100)
+                .backoff(Duration.ofMillis(20), Duration.ofMillis(20))
+                .maxElapsed(Duration.ofMillis(100))
+                .build();
+        assertThatThrownBy(() -> failing.retrying(policy).get()).isExactlyInstanceOf(IOException.class);
+        assertThat(calls.get()).isLessThan(100);
+    }
+
+    @Test
+    void retrying_shouldShareBudget() {
+        RetryBudget budget = RetryBudget.of(2, Duration.ofHours(1));
+        RetryPolicy first = fast().maxAttempts(10).budget(budget).build();
+        RetryPolicy second = fast().maxAttempts(10).budget(budget).build();
+        Supplier<String, IOException> failing = () -> {
+            throw new IOException("custom exception message");
+        };
+        assertThatThrownBy(() -> failing.retrying(first).get()).isExactlyInstanceOf(IOException.class);
+        assertThatThrownBy(() -> failing.retrying(second).get()).isExactlyInstanceOf(IOException.class);
+        assertThat(first.retries() + second.retries()).isEqualTo(2);
+        assertThat(second.attempts()).isEqualTo(1);
+        assertThat(budget.available()).isZero();
+    }
+
+    @Test
+    void retrying_shouldRestoreInterruptFlag() {
+        AtomicInteger calls = new AtomicInteger();
+        Supplier<String, IOException> failing = () -> {
+            calls.incrementAndGet();
+            throw new IOException("custom exception message");
+        };
+        RetryPolicy policy = RetryPolicy.builder().backoff(Duration.ofSeconds(10), Duration.ofSeconds(10)).build();
+        Thread.currentThread().interrupt();
+        try {
+            assertThatThrownBy(() -> failing.retrying(policy).get()).isExactlyInstanceOf(IOException.class);
+            assertThat(Thread.currentThread().isInterrupted()).isTrue();
+            assertThat(calls).hasValue(1);
+        } finally {
+            Thread.interrupted();
+        }
+    }
+
+    @Test
+    void retrying_shouldStopWhenSupplierIsInterrupted() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch sleeping = new CountDownLatch(1);
+        Supplier<String, InterruptedException> blocking = () -> {
+            calls.incrementAndGet();
+            sleeping.countDown();
+            Thread.sleep(10_000);
+            return "foo";
+        };
+        RetryPolicy policy = RetryPolicy.builder().backoff(Duration.ZERO, Duration.ZERO).build();
+        AtomicReference<Throwable> thrown = new AtomicReference<>();
+        AtomicBoolean interrupted = new AtomicBoolean();
+        Thread thread = new Thread(() -> {
+            try {
+                blocking.retrying(policy).get();
+            } catch (InterruptedException e) {
+                thrown.set(e);
+                interrupted.set(Thread.currentThread().isInterrupted());
+            }
+        });
+        thread.start();
+        sleeping.await();
+        thread.interrupt();
+        thread.join(5_000);
+        assertThat(thread.isAlive()).isFalse();
+        assertThat(thrown.get()).isInstanceOf(InterruptedException.class);
+        assertThat(interrupted).isTrue();
+        assertThat(calls).hasValue(1);
+        assertThat(policy.giveUps()).isEqualTo(1);
+    }
+
+    @Test
+    void retrying_shouldNotRetryOnceInterruptedWithoutDelay() {
+        AtomicInteger calls = new AtomicInteger();
+        Supplier<String, IOException> failing = () -> {
+            calls.incrementAndGet();
+            throw new IOException("custom exception message");
+        };
+        RetryPolicy policy = RetryPolicy.builder().backoff(Duration.ZERO, Duration.ZERO).build();
+        Thread.currentThread().interrupt();
+        try {
+            assertThatThrownBy(() -> failing.retrying(policy).get()).isExactlyInstanceOf(IOException.class);
+            assertThat(Thread.currentThread().isInterrupted()).isTrue();
+            assertThat(calls).hasValue(1);
+        } finally {
+            Thread.interrupted();
+        }
+    }
+
+    @Test
+    void budget_shouldRefill() throws Exception {
+        RetryBudget budget = RetryBudget.of(1, Duration.ofMillis(10));
+        assertThat(budget.tryAcquire()).isTrue();
+        assertThat(budget.tryAcquire()).isFalse();
+        Thread.sleep(20);
+        assertThat(budget.tryAcquire()).isTrue();
+    }
+
+    @Test
+    void builder_shouldRejectInvalidValues() {
+        assertThatThrownBy(() -> RetryPolicy.builder().maxAttempts(0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> RetryPolicy.builder().backoff(Duration.ofSeconds(2), Duration.ofSeconds(1)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> RetryBudget.of(0, Duration.ofSeconds(1)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
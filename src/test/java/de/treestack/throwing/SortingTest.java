@@ -0,0 +1,103 @@
+package de.treestack.throwing;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SortingTest {
+
+    @Test
+    void sort_shouldComputeEachKeyOnce() throws Exception {
+        List<String> list = new ArrayList<>(Arrays.asList("10", "9", "100", "1"));
+        AtomicInteger calls = new AtomicInteger();
+        Function<String, Integer, IOException> key = s -> {
+            calls.incrementAndGet();
+            return Integer.parseInt(s);
+        };
+        Sorting.sort(list, key);
+        assertThat(list).containsExactly("1", "9", "10", "100");
+        assertThat(calls).hasValue(4);
+    }
+
+    @Test
+    void sort_shouldBeStable() throws Exception {
+        String[] array = {"bb", "a", "cc", "b", "aa"};
+        Sorting.<String, Integer, RuntimeException>sort(array, String::length);
+        assertThat(array).containsExactly("a", "b", "bb", "cc", "aa");
+    }
+
+    @Test
+    void sort_shouldSupportSequentialLists() throws Exception {
+        List<String> list = new LinkedList<>(Arrays.asList("c", "a", "b"));
+        Sorting.<String, String, RuntimeException>sort(list, s -> s);
+        assertThat(list).containsExactly("a", "b", "c");
+    }
+
+    @Test
+    void sort_shouldRethrowOriginalExceptionAndLeaveListUnchanged() {
+        List<String> list = new ArrayList<>(Arrays.asList("2", "x", "1"));
+        Function<String, Integer, IOException> key = s -> {
+            if (s.equals("x")) {
+                throw new IOException("custom exception message");
+            }
+            return Integer.parseInt(s);
+        };
+        assertThatThrownBy(() -> Sorting.sort(list, key))
+                .isExactlyInstanceOf(IOException.class)
+                .hasMessage("custom exception message");
+        assertThat(list).containsExactly("2", "x", "1");
+    }
+
+    @Test
+    void parallelSort_shouldSortLargeList() throws Exception {
+        List<Integer> expected = IntStream.range(0, 100_000).boxed().collect(Collectors.toList());
+        List<Integer> list = new ArrayList<>(expected);
+        Collections.shuffle(list);
+        Sorting.<Integer, String, RuntimeException>parallelSort(list, i -> String.format("%06d", i));
+        assertThat(list).isEqualTo(expected);
+    }
+
+    @Test
+    void parallelSort_shouldRethrowOriginalException() {
+        Integer[] array = IntStream.range(0, 100_000).boxed().toArray(Integer[]::new);
+        Function<Integer, Integer, IOException> key = i -> {
+            if (i == 50_000) {
+                throw new IOException("custom exception message");
+            }
+            return -i;
+        };
+        assertThatThrownBy(() -> Sorting.parallelSort(array, key))
+                .isExactlyInstanceOf(IOException.class)
+                .hasMessage("custom exception message");
+        assertThat(array[0]).isZero();
+    }
+
+    @Test
+    void comparing_shouldCompareByKey() {
+        List<String> list = new ArrayList<>(Arrays.asList("10", "9", "1"));
+        list.sort(Sorting.<String, Integer, IOException>comparing(Integer::parseInt));
+        assertThat(list).containsExactly("1", "9", "10");
+    }
+
+    @Test
+    void comparing_shouldWrapException() {
+        Function<String, Integer, IOException> key = s -> {
+            throw new IOException("custom exception message");
+        };
+        assertThatThrownBy(() -> Sorting.comparing(key).compare("a", "b"))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessage("custom exception message")
+                .hasCauseExactlyInstanceOf(IOException.class);
+    }
+}
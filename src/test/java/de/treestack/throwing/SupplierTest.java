@@ -65,4 +65,16 @@ class SupplierTest {
 
     }
 
-}
\ No newline at end of file
+    @Test
+    void ofConstructor_shouldCreateInstance() throws Exception {
+        Supplier<StringBuilder, Exception> f = Supplier.ofConstructor(StringBuilder.class.getConstructor());
+        assertThat(f.get()).isNotSameAs(f.get());
+    }
+
+    @Test
+    void ofConstructor_shouldRejectParameters() {
+        assertThatThrownBy(() -> Supplier.ofConstructor(StringBuilder.class.getConstructor(String.class)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+}